@@ -32,6 +32,10 @@ public final class Constants {
 	public static final String TERRAFORM_WOOD_API_VERSION = "6.1.0-alpha.4";
 	public static final String TRINKETS_VERSION = "3.6.0";
 	public static final String EMI_VERSION = "0.7.3+1.19.4";
+	// Benchmarks
+	public static final String JMH_VERSION = "1.36";
+	// Tests
+	public static final String JUNIT_VERSION = "5.9.2";
 
 	public record Contributor(String name, String role) {}
 }
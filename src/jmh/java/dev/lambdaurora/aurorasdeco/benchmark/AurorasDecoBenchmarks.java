@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.quiltmc.loader.api.ModContainer;
+import org.quiltmc.qsl.base.api.entrypoint.server.DedicatedServerModInitializer;
+
+/**
+ * Runs the JMH benchmarks of Aurora's Decorations once every mod has been initialized, then stops the JVM.
+ * <p>
+ * The benchmarks run inside the headless dedicated server started by the {@code runBenchmark} task, so the mod content
+ * is registered without needing a GPU. The benchmarks to run can be filtered with the
+ * {@code aurorasdeco.benchmark.include} system property, which takes a JMH include regular expression.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class AurorasDecoBenchmarks implements DedicatedServerModInitializer {
+	@Override
+	public void onInitializeServer(ModContainer mod) {
+		if (!Boolean.getBoolean("aurorasdeco.benchmark"))
+			return;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+
+		var options = new OptionsBuilder()
+				.include(System.getProperty("aurorasdeco.benchmark.include", AurorasDecoBenchmarks.class.getPackageName() + ".*"))
+				// The benchmarks need the mod content which only exists in this JVM.
+				.forks(0);
+
+		var output = System.getProperty("aurorasdeco.benchmark.output");
+		if (output != null) {
+			options.resultFormat(ResultFormatType.JSON).result(output);
+		}
+
+		int status = 0;
+		try {
+			new Runner(options.build()).run();
+		} catch (RunnerException e) {
+			AurorasDeco.error("Failed to run the benchmarks.", e);
+			status = 1;
+		}
+
+		System.exit(status);
+	}
+}
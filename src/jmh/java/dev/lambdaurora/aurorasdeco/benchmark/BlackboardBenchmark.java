@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardDrawModifier;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.DyeColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the drawing operations and the NBT round-trip of {@link Blackboard}.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class BlackboardBenchmark {
+	private final Blackboard blackboard = new Blackboard();
+	private final Blackboard drawing = new Blackboard();
+	private NbtCompound drawingNbt;
+	private short red;
+	private short blue;
+	private int step;
+
+	@Setup
+	public void setup() {
+		this.red = BlackboardColor.byId(DyeColor.RED.getId() + 1).toRawId(0, false);
+		this.blue = BlackboardColor.byId(DyeColor.BLUE.getId() + 1).toRawId(2, true);
+
+		// A drawing with a few shapes and shades, closer to what players draw than a random board.
+		var random = new Random(42L);
+		for (int i = 0; i < 12; i++) {
+			var color = BlackboardColor.byId(random.nextInt(DyeColor.values().length) + 1);
+			this.drawing.line(random.nextInt(16), random.nextInt(16), random.nextInt(16), random.nextInt(16), color);
+			this.drawing.brush(random.nextInt(16), random.nextInt(16), color.toRawId(random.nextInt(4), random.nextBoolean()));
+		}
+		this.drawingNbt = this.drawing.writeNbt(new NbtCompound());
+	}
+
+	@Benchmark
+	public boolean brush() {
+		int position = this.step++ & 255;
+		return this.blackboard.brush(position & 15, position >> 4, this.red);
+	}
+
+	@Benchmark
+	public boolean line() {
+		int offset = this.step++ & 15;
+		return this.blackboard.line(0, offset, 15, 15 - offset, BlackboardDrawModifier.SHADE_INCREASE);
+	}
+
+	@Benchmark
+	public boolean fillEmpty() {
+		// Alternates the colors so every fill has to flood the whole board.
+		return this.blackboard.fill(0, 0, (this.step++ & 1) == 0 ? this.red : this.blue);
+	}
+
+	@Benchmark
+	public void fillDrawing(Blackhole blackhole) {
+		this.blackboard.copy(this.drawing);
+		blackhole.consume(this.blackboard.fill(this.step++ & 15, 8, this.blue));
+	}
+
+	@Benchmark
+	public void getColors(Blackhole blackhole) {
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				blackhole.consume(this.drawing.getColor(x, y));
+			}
+		}
+	}
+
+	@Benchmark
+	public NbtCompound writeNbt() {
+		return this.drawing.writeNbt(new NbtCompound());
+	}
+
+	@Benchmark
+	public Blackboard readNbt() {
+		return Blackboard.fromNbt(this.drawingNbt);
+	}
+
+	@Benchmark
+	public Blackboard nbtRoundTrip() {
+		return Blackboard.fromNbt(this.drawing.writeNbt(new NbtCompound()));
+	}
+}
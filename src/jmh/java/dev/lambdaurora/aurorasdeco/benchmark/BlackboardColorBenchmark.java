@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import net.minecraft.util.math.MathHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of raw blackboard colors into render colors.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class BlackboardColorBenchmark {
+	private short[] rawColors;
+
+	@Setup
+	public void setup() {
+		var rawColors = new ShortArrayList();
+
+		for (var color : BlackboardColor.getColors()) {
+			// Every shade the raw format can hold, including the lighter shades and the unused ones.
+			for (int shade = 0; shade < 8; shade++) {
+				rawColors.add(color.toRawId(shade, false));
+				rawColors.add(color.toRawId(shade, true));
+			}
+		}
+
+		this.rawColors = rawColors.toShortArray();
+	}
+
+	/**
+	 * Converts every registered color with every shade and saturation.
+	 */
+	@Benchmark
+	public void getRenderColor(Blackhole blackhole) {
+		for (short rawColor : this.rawColors) {
+			blackhole.consume(BlackboardColor.getRenderColor(rawColor));
+		}
+	}
+
+	/**
+	 * Converts every registered color with every shade and saturation by computing the render color on each call,
+	 * like before the render colors were precomputed. This is the baseline of {@link #getRenderColor(Blackhole)}.
+	 */
+	@Benchmark
+	public void computeRenderColor(Blackhole blackhole) {
+		for (short rawColor : this.rawColors) {
+			blackhole.consume(computeRenderColor(rawColor));
+		}
+	}
+
+	private static int computeRenderColor(int rawColor) {
+		var color = BlackboardColor.fromRaw(rawColor);
+		if (color.getId() == 0)
+			return color.getColor();
+
+		int factor = switch (BlackboardColor.getShadeFromRaw(rawColor)) {
+			case 1 -> 220;
+			case 2 -> 180;
+			case 3 -> 135;
+			case 4 -> 285;
+			case 5 -> 320;
+			default -> 255;
+		};
+
+		int base = BlackboardColor.getSaturationFromRaw(rawColor) ? saturate(color.getColor()) : color.getColor();
+		int red = MathHelper.clamp((base >> 16 & 255) * factor / 255, 0, 255);
+		int green = MathHelper.clamp((base >> 8 & 255) * factor / 255, 0, 255);
+		int blue = MathHelper.clamp((base & 255) * factor / 255, 0, 255);
+		return 0xff000000 | blue << 16 | green << 8 | red;
+	}
+
+	private static int saturate(int color) {
+		int red = color >> 16 & 255;
+		int green = color >> 8 & 255;
+		int blue = color & 255;
+
+		float gray = 0.2989f * red + 0.5870f * green + 0.1140f * blue;
+
+		red = MathHelper.clamp((int) (-gray + red * 2), 0, 255);
+		green = MathHelper.clamp((int) (-gray + green * 2), 0, 255);
+		blue = MathHelper.clamp((int) (-gray + blue * 2), 0, 255);
+
+		return 0xff000000 | red << 16 | green << 8 | blue;
+	}
+}
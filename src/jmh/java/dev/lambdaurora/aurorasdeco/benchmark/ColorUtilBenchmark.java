@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import com.mojang.blaze3d.texture.NativeImage;
+import dev.lambdaurora.aurorasdeco.util.ColorUtil;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the palette extraction used to generate the wooded textures.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ColorUtilBenchmark {
+	@Param({"16", "64"})
+	public int size;
+
+	private NativeImage image;
+
+	@Setup
+	public void setup() {
+		this.image = new NativeImage(this.size, this.size, false);
+
+		// Planks textures use a small palette of close colors.
+		var random = new Random(42L);
+		var palette = new int[24];
+		for (int i = 0; i < palette.length; i++) {
+			int value = 64 + i * 6;
+			palette[i] = ColorUtil.packARGBColor(value, value * 3 / 4, value / 2, 255);
+		}
+
+		for (int y = 0; y < this.size; y++) {
+			for (int x = 0; x < this.size; x++) {
+				this.image.setPixelColor(x, y, palette[random.nextInt(palette.length)]);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.image.close();
+	}
+
+	@Benchmark
+	public IntList getPaletteFromImage() {
+		return ColorUtil.getPaletteFromImage(this.image);
+	}
+
+	@Benchmark
+	public IntList getReducedPaletteFromImage() {
+		return ColorUtil.getPaletteFromImage(this.image, 8);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import dev.lambdaurora.aurorasdeco.item.group.ItemTree;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the building of item trees from the entries of an item group.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ItemTreeBenchmark {
+	private List<ItemStack> displayStacks;
+	private List<ItemStack> searchStacks;
+
+	@Setup
+	public void setup() {
+		this.displayStacks = new ArrayList<>();
+		this.searchStacks = new ArrayList<>();
+
+		// Mimics a modded item group, where the search tab has a few more entries than the display tab.
+		int i = 0;
+		for (var item : Registries.ITEM) {
+			if (!Registries.ITEM.getId(item).getNamespace().equals(AurorasDeco.NAMESPACE))
+				continue;
+
+			var stack = new ItemStack(item);
+			if (i++ % 10 != 0) this.displayStacks.add(stack);
+			this.searchStacks.add(stack);
+		}
+	}
+
+	@Benchmark
+	public ItemTree fromStacks() {
+		return ItemTree.fromStacks(this.displayStacks, this.searchStacks);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.benchmark;
+
+import dev.lambdaurora.aurorasdeco.registry.WoodType;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups of {@link WoodType}.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class WoodTypeBenchmark {
+	private final List<Identifier> ids = new ArrayList<>();
+	private final List<Block> blocks = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		// Copies of the identifiers, lookups never get the exact instance used as key.
+		WoodType.forEach(woodType -> this.ids.add(new Identifier(woodType.getId().toString())));
+		this.ids.add(new Identifier("aurorasdeco", "unknown"));
+
+		WoodType.forEach(woodType -> {
+			for (var type : WoodType.ComponentType.types()) {
+				var component = woodType.getComponent(type);
+				if (component != null) this.blocks.add(component.block());
+			}
+		});
+		this.blocks.add(Blocks.STONE);
+	}
+
+	/**
+	 * Looks up every known wood type and an unknown one.
+	 */
+	@Benchmark
+	public void fromId(Blackhole blackhole) {
+		for (var id : this.ids) {
+			blackhole.consume(WoodType.fromId(id));
+		}
+	}
+
+	/**
+	 * Looks up the wood type of every known component block and a block which isn't a component.
+	 */
+	@Benchmark
+	public void fromBlock(Blackhole blackhole) {
+		for (var block : this.blocks) {
+			blackhole.consume(WoodType.fromBlock(block));
+		}
+	}
+}
@@ -21,11 +21,16 @@ import com.mojang.logging.LogUtils;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
 import dev.lambdaurora.aurorasdeco.block.big_flower_pot.BigPottedCactusBlock;
 import dev.lambdaurora.aurorasdeco.block.big_flower_pot.PottedPlantType;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.CopperHopperBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.SwayingBlockEntity;
+import dev.lambdaurora.aurorasdeco.item.PainterPaletteScrollLimiter;
 import dev.lambdaurora.aurorasdeco.item.group.ItemTree;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.resource.AurorasDecoPack;
 import dev.lambdaurora.aurorasdeco.util.AuroraUtil;
+import dev.lambdaurora.aurorasdeco.world.AmethystLanternIndex;
 import dev.lambdaurora.aurorasdeco.world.gen.DynamicWorldGen;
 import net.minecraft.block.Blocks;
 import net.minecraft.registry.Registries;
@@ -37,6 +42,8 @@ import net.minecraft.util.Identifier;
 import org.quiltmc.loader.api.ModContainer;
 import org.quiltmc.loader.api.QuiltLoader;
 import org.quiltmc.qsl.base.api.entrypoint.ModInitializer;
+import org.quiltmc.qsl.lifecycle.api.event.ServerTickEvents;
+import org.quiltmc.qsl.lifecycle.api.event.ServerWorldTickEvents;
 import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
 import org.quiltmc.qsl.registry.api.event.RegistryMonitor;
 import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
@@ -79,7 +86,13 @@ public class AurorasDeco implements ModInitializer {
 		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.SIGN_POST_SET_TEXT, AurorasDecoPackets::handleSignPostSetTextPacket);
 		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.PAINTER_PALETTE_SCROLL, AurorasDecoPackets::handlePainterPaletteScroll);
 
+		ServerWorldTickEvents.END.register((server, world) -> BlackboardBlockEntity.flushPendingSyncs(world));
+		ServerTickEvents.END.register(server -> SwayingBlockEntity.onServerTickEnd());
+
 		DynamicWorldGen.init();
+		AmethystLanternIndex.init();
+		CopperHopperBlockEntity.init();
+		PainterPaletteScrollLimiter.init();
 
 		ResourceLoader.registerBuiltinResourcePack(id("azalea_tree"), ResourcePackActivationType.DEFAULT_ENABLED,
 				Text.literal("Aurora's Deco").formatted(Formatting.GOLD)
@@ -17,9 +17,7 @@
 
 package dev.lambdaurora.aurorasdeco.blackboard;
 
-import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
-import net.fabricmc.fabric.api.renderer.v1.mesh.MutableQuadView;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.feature_flags.FeatureFlagBitSet;
 import net.minecraft.feature_flags.FeatureFlags;
@@ -160,23 +158,19 @@ public class Blackboard implements BlackboardHandler {
 
 	@Override
 	public boolean fill(int x, int y, int color) {
-		int replacement = (short) color;
-		int target = this.getPixel(x, y);
-		if (target != replacement) {
-			this.flood(x, y, target, replacement);
-		}
-		return true;
+		return this.floodFill(x, y, color) != 0;
 	}
 
-	private void flood(int x, int y, int target, int replacement) {
-		short pixel = this.getPixel(x, y);
-		if (pixel == target) {
-			this.pixels[y * 16 + x] = (short) replacement;
-			this.flood((x <= 0 ? x : x - 1), y, target, replacement);
-			this.flood((x >= 15 ? x : x + 1), y, target, replacement);
-			this.flood(x, (y <= 0 ? y : y - 1), target, replacement);
-			this.flood(x, (y >= 15 ? y : y + 1), target, replacement);
-		}
+	/**
+	 * Fills the area of identical color connected to the given pixel.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param color the raw color to fill with
+	 * @return the amount of changed pixels
+	 */
+	public int floodFill(int x, int y, int color) {
+		return BlackboardFloodFill.fill(this.pixels, x, y, (short) color);
 	}
 
 	/**
@@ -224,103 +218,47 @@ public class Blackboard implements BlackboardHandler {
 		WHITE_SPRITE = whiteSprite;
 	}
 
+	/**
+	 * Builds the mesh of this blackboard, merging identical adjacent pixels into larger quads.
+	 *
+	 * @param facing the direction the blackboard is facing
+	 * @param light the light of the blackboard if lit, or {@code 0} otherwise
+	 * @return the built mesh
+	 * @see BlackboardMeshBuilder
+	 */
 	@ClientOnly
 	public Mesh buildMesh(Direction facing, int light) {
-		var meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
-		var emitter = meshBuilder.getEmitter();
-
-		var lit = light != 0;
-
-		var material = RendererAccess.INSTANCE.getRenderer().materialFinder()
-				.disableDiffuse(0, lit)
-				.disableAo(0, lit)
-				.find();
-		for (int y = 0; y < 16; y++) {
-			for (int x = 0; x < 16; x++) {
-				int color = this.getColor(x, y);
-				if (color != 0) {
-					{
-						int red = color & 255;
-						int green = (color >> 8) & 255;
-						int blue = (color >> 16) & 255;
-						color = 0xff000000 | (red << 16) | (green << 8) | blue;
-					}
-
-					int squareY = 15 - y;
-					emitter.square(facing, x / 16.f, squareY / 16.f,
-									(x + 1) / 16.f, (squareY + 1) / 16.f, 0.928f)
-							.spriteBake(0, WHITE_SPRITE, MutableQuadView.BAKE_LOCK_UV)
-							.spriteColor(0, color, color, color, color)
-							.material(material);
-					if (light != 0)
-						emitter.lightmap(light, light, light, light);
-					emitter.emit();
-				}
-			}
-		}
-
-		return meshBuilder.build();
+		return BlackboardMeshBuilder.build(this, WHITE_SPRITE, facing, light);
 	}
 
 	/* Serialization */
 
 	public void readNbt(NbtCompound nbt) {
-		byte[] pixels = nbt.getByteArray("pixels");
-
-		if (!nbt.contains("version", NbtElement.INT_TYPE)) {
-			convert01(pixels);
-		} else {
-			switch (nbt.getInt("version")) {
-				case 1 -> pixels = convert02(pixels);
-				default -> {
-				}
-			}
-		}
-
-		int boardIndex = 0;
-		for (int i = 0; i < pixels.length; i++) {
-			if (pixels[i] == 0) {
-				this.pixels[boardIndex] = 0;
-			} else {
-				this.pixels[boardIndex] = (short) (pixels[i] << 8 | pixels[++i] & 0xff);
-			}
-
-			boardIndex++;
-			if (boardIndex >= this.pixels.length) break;
-		}
+		int version = nbt.contains("version", NbtElement.INT_TYPE) ? nbt.getInt("version") : 0;
+		BlackboardPixelCodec.decode(nbt.getByteArray("pixels"), version, this.pixels);
 
 		this.lit = nbt.getBoolean("lit");
 	}
 
 	public NbtCompound writeNbt(NbtCompound nbt) {
 		if (!this.isEmpty()) {
-			int length = 0;
-			for (short pixel : this.pixels) {
-				if (pixel == 0) length++;
-				else length += 2;
-			}
-
-			var pixels = new byte[length];
-
-			int rawIndex = 0;
-			for (short pixel : this.pixels) {
-				if (pixel == 0) {
-					pixels[rawIndex++] = 0;
-				} else {
-					pixels[rawIndex] = (byte) (pixel >> 8);
-					pixels[rawIndex + 1] = (byte) (pixel & 0xff);
-					rawIndex += 2;
-				}
-			}
-
-			nbt.putByteArray("pixels", pixels);
+			nbt.putByteArray("pixels", BlackboardPixelCodec.encode(this.pixels));
+		} else {
+			nbt.remove("pixels");
 		}
 
 		nbt.putBoolean("lit", this.isLit());
-		nbt.putInt("version", 2);
+		nbt.putInt("version", BlackboardPixelCodec.VERSION);
 		return nbt;
 	}
 
+	/**
+	 * {@return the size in bytes of the pixels of this blackboard once written to NBT}
+	 */
+	public int getEncodedSize() {
+		return this.isEmpty() ? 0 : BlackboardPixelCodec.getEncodedSize(this.pixels);
+	}
+
 	public static Blackboard fromNbt(NbtCompound nbt) {
 		var blackboard = new Blackboard();
 		blackboard.readNbt(nbt);
@@ -331,41 +269,6 @@ public class Blackboard implements BlackboardHandler {
 		return !nbt.contains("version", NbtElement.INT_TYPE);
 	}
 
-	/**
-	 * Converts the raw pixel data from version 0 to version 1.
-	 *
-	 * @param pixels the raw pixel data
-	 */
-	private static void convert01(byte[] pixels) {
-		for (int i = 0; i < pixels.length; i++) {
-			pixels[i] *= 4;
-		}
-	}
-
-	/**
-	 * Converts the raw pixel data from version 1 to version 2.
-	 *
-	 * @param pixels the raw pixel data
-	 * @return the converted raw pixel data
-	 */
-	private static byte[] convert02(byte[] pixels) {
-		var converted = new byte[256 * 2];
-
-		int newIndex = 0;
-		for (byte pixel : pixels) {
-			if (pixel == 0) {
-				converted[newIndex] = 0;
-				newIndex++;
-			} else {
-				converted[newIndex] = (byte) (pixel / 4);
-				converted[newIndex + 1] = (byte) ((pixel & 3) << 4);
-				newIndex += 2;
-			}
-		}
-
-		return converted;
-	}
-
 	public enum DrawAction {
 		DEFAULT("aurorasdeco.blackboard.tool.pixel") {
 			@Override
@@ -45,6 +45,12 @@ import java.util.Collections;
 public class BlackboardColor extends BlackboardDrawModifier {
 	private static final Int2ObjectMap<BlackboardColor> COLORS = new Int2ObjectOpenHashMap<>();
 	private static final Object2ObjectMap<Item, BlackboardColor> ITEM_TO_COLOR = new Object2ObjectOpenHashMap<>();
+	/**
+	 * The render colors of every raw color, indexed by the raw color without its 4 unused low bits.
+	 * <p>
+	 * Unregistered colors are left to {@code 0}, which is the render color of {@link #EMPTY}.
+	 */
+	private static final int[] RENDER_COLORS = new int[1 << 12];
 
 	/**
 	 * The color identifier mask ({@value}) for the raw color format.
@@ -80,6 +86,11 @@ public class BlackboardColor extends BlackboardDrawModifier {
 
 		COLORS.put(id, this);
 		ITEM_TO_COLOR.put(item, this);
+
+		for (int shade = 0; shade < 8; shade++) {
+			RENDER_COLORS[getRenderColorIndex(this.toRawId(shade, false))] = this.computeRenderColor(shade, false);
+			RENDER_COLORS[getRenderColorIndex(this.toRawId(shade, true))] = this.computeRenderColor(shade, true);
+		}
 	}
 
 	/**
@@ -143,6 +154,13 @@ public class BlackboardColor extends BlackboardDrawModifier {
 	 * @param saturated {@code true} if the color is saturated, or {@code false} otherwise
 	 */
 	public int getRenderColor(int shade, boolean saturated) {
+		if (shade < 0 || shade > 7)
+			return this.computeRenderColor(shade, saturated);
+
+		return RENDER_COLORS[getRenderColorIndex(this.toRawId(shade, saturated))];
+	}
+
+	private int computeRenderColor(int shade, boolean saturated) {
 		if (this.getId() == 0)
 			return this.getColor();
 
@@ -168,7 +186,11 @@ public class BlackboardColor extends BlackboardDrawModifier {
 	 * @param color the raw color format
 	 */
 	public static int getRenderColor(int color) {
-		return fromRaw(color).getRenderColor(getShadeFromRaw(color), getSaturationFromRaw(color));
+		return RENDER_COLORS[getRenderColorIndex(color)];
+	}
+
+	private static int getRenderColorIndex(int color) {
+		return (color & (COLOR_MASK | SATURATION_MASK | SHADE_MASK)) >> 4;
 	}
 
 	public static int getShadeFromRaw(int color) {
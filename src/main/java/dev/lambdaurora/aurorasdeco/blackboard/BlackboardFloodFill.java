@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import java.util.Arrays;
+
+/**
+ * Flood fills blackboards using an iterative scanline algorithm.
+ * <p>
+ * Each thread reuses a fixed-size work buffer, a 16x16 board never queues more than one seed per pixel.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BlackboardFloodFill {
+	private static final ThreadLocal<BlackboardFloodFill> BUFFER = ThreadLocal.withInitial(BlackboardFloodFill::new);
+
+	/**
+	 * The pixel indices left to fill from.
+	 */
+	private final int[] seeds = new int[256];
+	/**
+	 * The pixel indices which have already been queued as seeds, one bit per pixel.
+	 */
+	private final long[] queued = new long[4];
+	private int size;
+
+	private BlackboardFloodFill() {}
+
+	/**
+	 * Fills the area of identical color connected to the given pixel.
+	 *
+	 * @param pixels the pixels of the blackboard
+	 * @param x the X coordinate of the starting pixel
+	 * @param y the Y coordinate of the starting pixel
+	 * @param replacement the raw color to fill with
+	 * @return the amount of changed pixels
+	 */
+	static int fill(short[] pixels, int x, int y, short replacement) {
+		return BUFFER.get().scanline(pixels, x, y, replacement);
+	}
+
+	private int scanline(short[] pixels, int x, int y, short replacement) {
+		short target = pixels[y * 16 + x];
+		if (target == replacement) return 0;
+
+		Arrays.fill(this.queued, 0L);
+		this.size = 0;
+		this.push(y * 16 + x);
+
+		int changed = 0;
+		while (this.size > 0) {
+			int index = this.seeds[--this.size];
+			if (pixels[index] != target) continue; // Already filled as part of another span.
+
+			int row = index & ~15;
+			int left = index & 15;
+			int right = left;
+			while (left > 0 && pixels[row + left - 1] == target) left--;
+			while (right < 15 && pixels[row + right + 1] == target) right++;
+
+			Arrays.fill(pixels, row + left, row + right + 1, replacement);
+			changed += right - left + 1;
+
+			if (row > 0) this.queueSpans(pixels, row - 16, left, right, target);
+			if (row < 240) this.queueSpans(pixels, row + 16, left, right, target);
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Queues one seed per span of the target color in the given row, between the given columns.
+	 */
+	private void queueSpans(short[] pixels, int row, int left, int right, short target) {
+		boolean inSpan = false;
+
+		for (int column = left; column <= right; column++) {
+			if (pixels[row + column] == target) {
+				if (!inSpan) {
+					this.push(row + column);
+					inSpan = true;
+				}
+			} else {
+				inSpan = false;
+			}
+		}
+	}
+
+	private void push(int index) {
+		long bit = 1L << (index & 63);
+		if ((this.queued[index >> 6] & bit) != 0) return;
+
+		this.queued[index >> 6] |= bit;
+		this.seeds[this.size++] = index;
+	}
+}
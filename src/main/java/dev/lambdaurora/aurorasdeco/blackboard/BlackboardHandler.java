@@ -101,6 +101,14 @@ public interface BlackboardHandler {
 
 	boolean line(int x1, int y1, int x2, int y2, BlackboardDrawModifier modifier);
 
+	/**
+	 * Fills the area of identical color connected to the pixel at the specified coordinates.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param color the raw color
+	 * @return {@code true} if any pixel has been changed, or {@code false} otherwise
+	 */
 	boolean fill(int x, int y, int color);
 
 	default boolean fill(int x, int y, BlackboardColor color, int shade) {
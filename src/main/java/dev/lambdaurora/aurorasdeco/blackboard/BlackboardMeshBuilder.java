@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MutableQuadView;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.math.Direction;
+import org.joml.Vector3f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Arrays;
+
+/**
+ * Builds the meshes of blackboards.
+ * <p>
+ * Pixels of identical raw color are merged into rectangles, so a board uses as few quads as possible
+ * instead of one quad per pixel.
+ * <p>
+ * Setting the {@code aurorasdeco.blackboard.verify_mesh} system property to {@code true} rasterizes every merged
+ * mesh against the per-pixel mesh, and falls back to the per-pixel mesh if they don't match.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class BlackboardMeshBuilder {
+	private static final boolean VERIFY = Boolean.getBoolean("aurorasdeco.blackboard.verify_mesh");
+
+	private BlackboardMeshBuilder() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	/**
+	 * Builds the mesh of the given blackboard.
+	 *
+	 * @param blackboard the blackboard
+	 * @param sprite the sprite to use for the pixels
+	 * @param facing the direction the blackboard is facing
+	 * @param light the light of the blackboard if lit, or {@code 0} otherwise
+	 * @return the built mesh
+	 */
+	public static Mesh build(Blackboard blackboard, Sprite sprite, Direction facing, int light) {
+		var colors = getRenderColors(blackboard);
+
+		if (VERIFY) {
+			var pixelMesh = buildPixelMesh(colors, sprite, Direction.NORTH, light);
+			var mergedMesh = buildMergedMesh(blackboard.getPixels(), colors, sprite, Direction.NORTH, light);
+
+			if (!Arrays.equals(rasterize(pixelMesh), rasterize(mergedMesh))) {
+				AurorasDeco.error("Merged blackboard mesh does not match the per-pixel mesh for pixels {}.",
+						Arrays.toString(blackboard.getPixels()));
+				return buildPixelMesh(colors, sprite, facing, light);
+			}
+		}
+
+		return buildMergedMesh(blackboard.getPixels(), colors, sprite, facing, light);
+	}
+
+	/**
+	 * Appends the back faces of the given blackboard mesh, for blackboards which can be seen from behind like glassboards.
+	 * <p>
+	 * The back faces are built once here instead of transforming the mesh again every time the chunk is rebuilt.
+	 *
+	 * @param mesh the front mesh
+	 * @return the mesh with both the front and back faces
+	 */
+	public static Mesh withBackFaces(Mesh mesh) {
+		var meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
+		var emitter = meshBuilder.getEmitter();
+		var quadPos = new Vector3f();
+
+		mesh.forEach(quad -> emitter.copyFrom(quad).emit());
+		mesh.forEach(quad -> {
+			emitter.copyFrom(quad);
+			flip(emitter, quadPos);
+			emitter.emit();
+		});
+
+		return meshBuilder.build();
+	}
+
+	/**
+	 * Merges the pixels of a blackboard into rectangles of identical raw color.
+	 * <p>
+	 * Each rectangle is packed as {@code x | y << 4 | (width - 1) << 8 | (height - 1) << 12}.
+	 *
+	 * @param pixels the raw pixels
+	 * @param colors the render colors of the pixels, pixels with a render color of {@code 0} are skipped
+	 * @param rectangles the array to store the rectangles into, must be able to hold 256 rectangles
+	 * @return the amount of rectangles
+	 */
+	public static int merge(short[] pixels, int[] colors, int[] rectangles) {
+		var merged = new boolean[256];
+		int count = 0;
+
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				int index = y * 16 + x;
+				if (merged[index] || colors[index] == 0) continue;
+
+				short color = pixels[index];
+
+				int width = 1;
+				while (x + width < 16 && !merged[index + width] && pixels[index + width] == color) {
+					width++;
+				}
+
+				int height = 1;
+				grow:
+				while (y + height < 16) {
+					int row = (y + height) * 16 + x;
+					for (int i = 0; i < width; i++) {
+						if (merged[row + i] || pixels[row + i] != color)
+							break grow;
+					}
+					height++;
+				}
+
+				for (int j = 0; j < height; j++) {
+					Arrays.fill(merged, index + j * 16, index + j * 16 + width, true);
+				}
+
+				rectangles[count++] = x | y << 4 | (width - 1) << 8 | (height - 1) << 12;
+			}
+		}
+
+		return count;
+	}
+
+	private static int[] getRenderColors(Blackboard blackboard) {
+		var colors = new int[256];
+
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				colors[y * 16 + x] = toQuadColor(blackboard.getColor(x, y));
+			}
+		}
+
+		return colors;
+	}
+
+	private static Mesh buildMergedMesh(short[] pixels, int[] colors, Sprite sprite, Direction facing, int light) {
+		var meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
+		var emitter = meshBuilder.getEmitter();
+		var material = getMaterial(light);
+
+		var rectangles = new int[256];
+		int count = merge(pixels, colors, rectangles);
+
+		for (int i = 0; i < count; i++) {
+			int rectangle = rectangles[i];
+			int x = rectangle & 15;
+			int y = (rectangle >> 4) & 15;
+			int width = ((rectangle >> 8) & 15) + 1;
+			int height = ((rectangle >> 12) & 15) + 1;
+
+			emitSquare(emitter, material, sprite, facing, light, x, y, width, height, colors[y * 16 + x]);
+		}
+
+		return meshBuilder.build();
+	}
+
+	private static Mesh buildPixelMesh(int[] colors, Sprite sprite, Direction facing, int light) {
+		var meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
+		var emitter = meshBuilder.getEmitter();
+		var material = getMaterial(light);
+
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				int color = colors[y * 16 + x];
+				if (color != 0) {
+					emitSquare(emitter, material, sprite, facing, light, x, y, 1, 1, color);
+				}
+			}
+		}
+
+		return meshBuilder.build();
+	}
+
+	private static RenderMaterial getMaterial(int light) {
+		var lit = light != 0;
+
+		return RendererAccess.INSTANCE.getRenderer().materialFinder()
+				.disableDiffuse(0, lit)
+				.disableAo(0, lit)
+				.find();
+	}
+
+	private static void emitSquare(QuadEmitter emitter, RenderMaterial material, Sprite sprite, Direction facing, int light,
+			int x, int y, int width, int height, int color) {
+		int squareY = 16 - y - height;
+		emitter.square(facing, x / 16.f, squareY / 16.f,
+						(x + width) / 16.f, (squareY + height) / 16.f, 0.928f)
+				.spriteBake(0, sprite, MutableQuadView.BAKE_LOCK_UV)
+				.spriteColor(0, color, color, color, color)
+				.material(material);
+		if (light != 0)
+			emitter.lightmap(light, light, light, light);
+		emitter.emit();
+	}
+
+	/**
+	 * Turns the given front quad into its back face, by swapping its horizontal bounds.
+	 *
+	 * @param quad the quad to flip
+	 * @param quadPos the vector used to read the vertices
+	 */
+	private static void flip(MutableQuadView quad, Vector3f quadPos) {
+		quad.nominalFace(quad.lightFace().rotateYClockwise());
+		var axis = quad.lightFace().getAxis();
+
+		float leftValue;
+		float rightValue;
+
+		if (axis == Direction.Axis.Z) {
+			quad.copyPos(0, quadPos);
+			leftValue = quadPos.x();
+			quad.copyPos(2, quadPos);
+			rightValue = quadPos.x();
+		} else if (axis == Direction.Axis.X) {
+			quad.copyPos(0, quadPos);
+			leftValue = quadPos.z();
+			quad.copyPos(2, quadPos);
+			rightValue = quadPos.z();
+		} else {
+			return;
+		}
+
+		for (int i = 0; i < 4; i++) {
+			quad.copyPos(i, quadPos);
+
+			if (axis == Direction.Axis.Z) {
+				quad.pos(i, i < 2 ? rightValue : leftValue, quadPos.y(), quadPos.z());
+			} else {
+				quad.pos(i, quadPos.x(), quadPos.y(), i < 2 ? rightValue : leftValue);
+			}
+		}
+	}
+
+	/**
+	 * Converts an ABGR render color into the ARGB quad color.
+	 *
+	 * @param color the ABGR render color
+	 * @return the ARGB color, or {@code 0} if there's no color
+	 */
+	private static int toQuadColor(int color) {
+		if (color == 0) return 0;
+
+		int red = color & 255;
+		int green = (color >> 8) & 255;
+		int blue = (color >> 16) & 255;
+		return 0xff000000 | (red << 16) | (green << 8) | blue;
+	}
+
+	/**
+	 * Rasterizes a north-facing blackboard mesh into its 16x16 pixel colors.
+	 * <p>
+	 * The last element is set if quads overlap.
+	 *
+	 * @param mesh the mesh to rasterize
+	 * @return the rasterized colors
+	 */
+	private static int[] rasterize(Mesh mesh) {
+		var raster = new int[256 + 1];
+
+		mesh.forEach(quad -> {
+			float minX = 1.f, maxX = 0.f, minY = 1.f, maxY = 0.f;
+			for (int i = 0; i < 4; i++) {
+				minX = Math.min(minX, quad.x(i));
+				maxX = Math.max(maxX, quad.x(i));
+				minY = Math.min(minY, quad.y(i));
+				maxY = Math.max(maxY, quad.y(i));
+			}
+
+			int color = quad.spriteColor(0, 0);
+			// North faces are mirrored on the X axis.
+			int startX = Math.max(Math.round((1.f - maxX) * 16.f), 0);
+			int endX = Math.min(Math.round((1.f - minX) * 16.f), 16);
+			int startY = Math.max(Math.round((1.f - maxY) * 16.f), 0);
+			int endY = Math.min(Math.round((1.f - minY) * 16.f), 16);
+
+			for (int y = startY; y < endY; y++) {
+				for (int x = startX; x < endX; x++) {
+					if (raster[y * 16 + x] != 0) raster[256] = 1;
+					raster[y * 16 + x] = color;
+				}
+			}
+		});
+
+		return raster;
+	}
+}
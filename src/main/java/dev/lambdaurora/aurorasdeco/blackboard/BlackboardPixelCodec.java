@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes the pixels of blackboards stored in NBT.
+ * <p>
+ * The current format (version {@value #VERSION}) starts with an encoding byte:
+ * <ul>
+ *     <li>{@value #PALETTE_RUNS}: the palette size minus one as a byte, the palette as big-endian shorts,
+ *     then runs of pixels in row-major order, each run being its length minus one and its palette index as bytes;</li>
+ *     <li>{@value #RAW}: the 256 pixels as big-endian shorts, used when the runs would be larger.</li>
+ * </ul>
+ * Older versions are only decoded, they are migrated to the current format the next time the blackboard is written.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BlackboardPixelCodec {
+	/**
+	 * The version of the format written by {@link #encode(short[])}.
+	 */
+	static final int VERSION = 3;
+	private static final int PALETTE_RUNS = 0;
+	private static final int RAW = 1;
+	private static final int RAW_SIZE = 1 + 256 * 2;
+
+	private BlackboardPixelCodec() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	/**
+	 * {@return the size in bytes of the given pixels once encoded}
+	 *
+	 * @param pixels the pixels
+	 */
+	static int getEncodedSize(short[] pixels) {
+		var palette = new Short2IntOpenHashMap();
+		int runs = 0;
+
+		for (int i = 0; i < pixels.length; i++) {
+			palette.putIfAbsent(pixels[i], palette.size());
+			if (i == 0 || pixels[i] != pixels[i - 1]) runs++;
+		}
+
+		return Math.min(2 + palette.size() * 2 + runs * 2, RAW_SIZE);
+	}
+
+	/**
+	 * Encodes the given pixels in the current format.
+	 *
+	 * @param pixels the pixels
+	 * @return the encoded pixels
+	 */
+	static byte[] encode(short[] pixels) {
+		var palette = new Short2IntOpenHashMap();
+		var paletteEntries = new short[pixels.length];
+		// Worst case is one run per pixel, and a run can't be longer than the 256 pixels of the board.
+		var runs = new byte[pixels.length * 2];
+		int runsLength = 0;
+
+		int runStart = 0;
+		for (int i = 1; i <= pixels.length; i++) {
+			if (i == pixels.length || pixels[i] != pixels[runStart]) {
+				short pixel = pixels[runStart];
+				int index = palette.computeIfAbsent(pixel, key -> {
+					paletteEntries[palette.size()] = pixel;
+					return palette.size();
+				});
+
+				runs[runsLength++] = (byte) (i - runStart - 1);
+				runs[runsLength++] = (byte) index;
+				runStart = i;
+			}
+		}
+
+		int size = 2 + palette.size() * 2 + runsLength;
+		if (size >= RAW_SIZE) {
+			var encoded = new byte[RAW_SIZE];
+			encoded[0] = RAW;
+			for (int i = 0; i < pixels.length; i++) {
+				encoded[1 + i * 2] = (byte) (pixels[i] >> 8);
+				encoded[2 + i * 2] = (byte) pixels[i];
+			}
+			return encoded;
+		}
+
+		var encoded = new byte[size];
+		encoded[0] = PALETTE_RUNS;
+		encoded[1] = (byte) (palette.size() - 1);
+		for (int i = 0; i < palette.size(); i++) {
+			encoded[2 + i * 2] = (byte) (paletteEntries[i] >> 8);
+			encoded[3 + i * 2] = (byte) paletteEntries[i];
+		}
+		System.arraycopy(runs, 0, encoded, 2 + palette.size() * 2, runsLength);
+		return encoded;
+	}
+
+	/**
+	 * Decodes the given encoded pixels.
+	 * <p>
+	 * Malformed data is decoded as far as possible, the remaining pixels are left empty.
+	 *
+	 * @param data the encoded pixels
+	 * @param version the version of the format, {@code 0} if the data has no version
+	 * @param pixels the pixels to decode into
+	 */
+	static void decode(byte[] data, int version, short[] pixels) {
+		Arrays.fill(pixels, (short) 0);
+
+		if (version >= 3) {
+			decodeCurrent(data, pixels);
+		} else {
+			decodeLegacy(data, version, pixels);
+		}
+	}
+
+	private static void decodeCurrent(byte[] data, short[] pixels) {
+		if (data.length == 0) return;
+
+		if (data[0] == RAW) {
+			for (int i = 0; i < pixels.length && 2 + i * 2 < data.length; i++) {
+				pixels[i] = (short) (data[1 + i * 2] << 8 | data[2 + i * 2] & 0xff);
+			}
+			return;
+		}
+
+		if (data.length < 2) return;
+
+		int paletteSize = (data[1] & 0xff) + 1;
+		int runsStart = 2 + paletteSize * 2;
+		if (runsStart > data.length) return;
+
+		int pixel = 0;
+		for (int i = runsStart; i + 1 < data.length && pixel < pixels.length; i += 2) {
+			int length = (data[i] & 0xff) + 1;
+			int index = data[i + 1] & 0xff;
+			if (index >= paletteSize) return;
+
+			short color = (short) (data[2 + index * 2] << 8 | data[3 + index * 2] & 0xff);
+			int end = Math.min(pixel + length, pixels.length);
+			Arrays.fill(pixels, pixel, end, color);
+			pixel = end;
+		}
+	}
+
+	private static void decodeLegacy(byte[] data, int version, short[] pixels) {
+		switch (version) {
+			case 0 -> {
+				data = data.clone();
+				convert01(data);
+			}
+			case 1 -> data = convert02(data);
+			default -> {
+			}
+		}
+
+		int boardIndex = 0;
+		for (int i = 0; i < data.length; i++) {
+			if (data[i] == 0) {
+				pixels[boardIndex] = 0;
+			} else if (i + 1 < data.length) {
+				pixels[boardIndex] = (short) (data[i] << 8 | data[++i] & 0xff);
+			}
+
+			boardIndex++;
+			if (boardIndex >= pixels.length) break;
+		}
+	}
+
+	/**
+	 * Converts the raw pixel data from version 0 to version 1.
+	 *
+	 * @param pixels the raw pixel data
+	 */
+	private static void convert01(byte[] pixels) {
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] *= 4;
+		}
+	}
+
+	/**
+	 * Converts the raw pixel data from version 1 to version 2.
+	 *
+	 * @param pixels the raw pixel data
+	 * @return the converted raw pixel data
+	 */
+	private static byte[] convert02(byte[] pixels) {
+		var converted = new byte[256 * 2];
+
+		int newIndex = 0;
+		for (byte pixel : pixels) {
+			if (newIndex >= converted.length) break;
+
+			if (pixel == 0) {
+				converted[newIndex] = 0;
+				newIndex++;
+			} else {
+				converted[newIndex] = (byte) (pixel / 4);
+				converted[newIndex + 1] = (byte) ((pixel & 3) << 4);
+				newIndex += 2;
+			}
+		}
+
+		return converted;
+	}
+}
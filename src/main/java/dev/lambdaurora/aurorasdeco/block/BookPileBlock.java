@@ -190,6 +190,12 @@ public class BookPileBlock extends BlockWithEntity implements Waterloggable {
 
 	/* Block entity stuff */
 
+	@Override
+	public BlockRenderType getRenderType(BlockState state) {
+		// The model is empty, but emits the books baked by the block entity.
+		return BlockRenderType.MODEL;
+	}
+
 	@Override
 	public @Nullable BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
 		return AurorasDecoRegistry.BOOK_PILE_BLOCK_ENTITY_TYPE.instantiate(pos, state);
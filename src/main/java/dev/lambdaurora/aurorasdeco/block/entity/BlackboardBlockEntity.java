@@ -20,8 +20,13 @@ package dev.lambdaurora.aurorasdeco.block.entity;
 import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardDrawModifier;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardHandler;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardMeshBuilder;
 import dev.lambdaurora.aurorasdeco.block.BlackboardBlock;
+import dev.lambdaurora.aurorasdeco.client.BlackboardRenderScheduler;
+import dev.lambdaurora.aurorasdeco.client.model.BakedGlassboardModel;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoTags;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
@@ -35,12 +40,15 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Nameable;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkSectionPos;
 import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.loader.api.minecraft.MinecraftQuiltLoader;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.networking.api.PlayerLookup;
+import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Represents a blackboard block entity, stores the pixels of a blackboard.
@@ -53,7 +61,19 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		RenderAttachmentBlockEntity, BlackboardHandler {
 	@ClientOnly
 	private static final Set<BlackboardBlockEntity> ACTIVE_BLACKBOARDS = new ObjectOpenHashSet<>();
+	/**
+	 * The blackboards which got drawn on during the current tick and still need to be synced.
+	 */
+	private static final Set<BlackboardBlockEntity> PENDING_SYNC = new ObjectOpenHashSet<>();
+	/**
+	 * The estimated overhead in bytes of a full block entity update packet, on top of the pixels.
+	 */
+	private static final int FULL_SYNC_OVERHEAD = 64;
 	private final Blackboard blackboard = new AssignedBlackboard();
+	/**
+	 * The pixels as last sent to the clients, used to compute the changed pixels on sync.
+	 */
+	private short[] syncedPixels;
 	private @Nullable Text customName;
 
 	public PlayerEntity lastUser;
@@ -61,7 +81,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public int lastY;
 
 	@ClientOnly
-	private Mesh mesh = null;
+	private volatile RenderData renderData = RenderData.EMPTY;
 	@ClientOnly
 	private boolean meshDirty = true;
 
@@ -78,7 +98,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public boolean setPixel(int x, int y, int color) {
 		if (this.blackboard.setPixel(x, y, color)) {
 			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
+				this.scheduleSync();
 				this.markDirty();
 			}
 			return true;
@@ -90,7 +110,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public boolean brush(int x, int y, int color) {
 		if (this.blackboard.brush(x, y, color)) {
 			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
+				this.scheduleSync();
 				this.markDirty();
 			}
 			return true;
@@ -102,7 +122,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public boolean replace(int x, int y, int color) {
 		if (this.blackboard.replace(x, y, color)) {
 			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
+				this.scheduleSync();
 				this.markDirty();
 			}
 			return true;
@@ -114,7 +134,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public boolean fill(int x, int y, int color) {
 		if (this.blackboard.fill(x, y, color)) {
 			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
+				this.scheduleSync();
 				this.markDirty();
 			}
 			return true;
@@ -126,7 +146,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public boolean line(int x1, int y1, int x2, int y2, BlackboardDrawModifier modifier) {
 		if (this.blackboard.line(x1, y1, x2, y2, modifier)) {
 			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
+				this.scheduleSync();
 				this.markDirty();
 			}
 			return true;
@@ -137,7 +157,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public void copy(Blackboard source) {
 		this.blackboard.copy(source);
 		if (this.getWorld() instanceof ServerWorld) {
-			this.sync();
+			this.scheduleSync();
 			this.markDirty();
 		}
 	}
@@ -149,7 +169,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		this.blackboard.clear();
 		this.lastUser = null;
 		if (this.getWorld() instanceof ServerWorld) {
-			this.sync();
+			this.scheduleSync();
 			this.markDirty();
 		}
 	}
@@ -207,16 +227,113 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 
 		if (MinecraftQuiltLoader.getEnvironmentType() == EnvType.CLIENT) {
 			ACTIVE_BLACKBOARDS.add(this);
+
+			if (this.world instanceof ClientWorld) {
+				// The chunk may not be accessible from the world yet, the connections are updated later.
+				BlackboardRenderScheduler.schedulePlacedUpdate(this);
+			}
 		}
 	}
 
+	/* Synchronization */
+
+	/**
+	 * Schedules the synchronization of this blackboard to the clients at the end of the tick,
+	 * so every stroke made during the tick is sent at once.
+	 */
+	public void scheduleSync() {
+		PENDING_SYNC.add(this);
+	}
+
+	/**
+	 * Sends the pending blackboard changes of the given world to the clients.
+	 *
+	 * @param world the world which finished ticking
+	 */
+	public static void flushPendingSyncs(ServerWorld world) {
+		if (PENDING_SYNC.isEmpty()) return;
+
+		PENDING_SYNC.removeIf(blackboard -> {
+			if (blackboard.isRemoved() || blackboard.world == null || blackboard.world.getServer() != world.getServer())
+				return true;
+			if (blackboard.world != world)
+				return false;
+
+			blackboard.flushSync();
+			return true;
+		});
+	}
+
+	/**
+	 * Sends the pixels which changed since the last synchronization,
+	 * or the whole blackboard if the changes would be bigger than a full update.
+	 */
+	private void flushSync() {
+		var pixels = this.blackboard.getPixels();
+		var synced = this.syncedPixels;
+
+		if (synced == null) {
+			this.syncFull();
+			return;
+		}
+
+		int changed = 0;
+		for (int i = 0; i < pixels.length; i++) {
+			if (pixels[i] != synced[i]) changed++;
+		}
+
+		if (changed == 0) {
+			return;
+		} else if (changed * 3 >= FULL_SYNC_OVERHEAD + this.blackboard.getEncodedSize()) {
+			this.syncFull();
+			return;
+		}
+
+		var buffer = PacketByteBufs.create();
+		buffer.writeBlockPos(this.getPos());
+		buffer.writeVarInt(changed);
+		for (int i = 0; i < pixels.length; i++) {
+			if (pixels[i] != synced[i]) {
+				buffer.writeByte(i);
+				buffer.writeShort(pixels[i]);
+				synced[i] = pixels[i];
+			}
+		}
+
+		var packet = ServerPlayNetworking.createS2CPacket(AurorasDecoPackets.BLACKBOARD_DELTA, buffer);
+		for (var player : PlayerLookup.tracking(this)) {
+			player.networkHandler.sendPacket(packet);
+		}
+	}
+
+	private void syncFull() {
+		this.syncedPixels = this.blackboard.getPixels().clone();
+		this.sync();
+	}
+
 	/* Client */
 
+	/**
+	 * Applies the changed pixels received from the server.
+	 *
+	 * @param indices the indices of the changed pixels
+	 * @param colors the new raw colors of the changed pixels
+	 * @param count the amount of changed pixels
+	 */
+	@ClientOnly
+	public void applyPixelDelta(int[] indices, short[] colors, int count) {
+		var pixels = this.blackboard.getPixels();
+		for (int i = 0; i < count; i++) {
+			pixels[indices[i]] = colors[i];
+		}
+		this.refreshRendering();
+	}
+
 	@Override
 	public @Nullable Object getRenderAttachmentData() {
 		if (this.meshDirty)
 			this.rebuildMesh();
-		return this.mesh;
+		return this.renderData;
 	}
 
 	@ClientOnly
@@ -224,16 +341,75 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		this.meshDirty = true;
 	}
 
+	/**
+	 * Rebuilds the mesh of this blackboard right away.
+	 * <p>
+	 * Changes should go through {@link #refreshRendering()} instead, which batches rebuilds per frame.
+	 */
 	@ClientOnly
-	private void rebuildMesh() {
+	public void rebuildMesh() {
 		this.meshDirty = false;
 		int light = this.blackboard.isLit() ? 0xf000f0 : 0;
-		this.mesh = this.blackboard.buildMesh(this.getCachedState().get(BlackboardBlock.FACING), light);
+		var mesh = this.blackboard.buildMesh(this.getCachedState().get(BlackboardBlock.FACING), light);
+		if (this.isGlassboard())
+			mesh = BlackboardMeshBuilder.withBackFaces(mesh);
+
+		// Meshes can be rebuilt from the chunk builder threads while the connections are updated on the client thread.
+		synchronized (this) {
+			this.renderData = new RenderData(mesh, this.renderData.connections());
+		}
+	}
+
+	@ClientOnly
+	private boolean isGlassboard() {
+		return this.getCachedState().isIn(AurorasDecoTags.GLASSBOARD_BLOCKS);
+	}
+
+	/**
+	 * Updates the connection mask of this glassboard from its neighbors.
+	 * <p>
+	 * This must be called on the client thread.
+	 *
+	 * @return {@code true} if the connection mask changed, or {@code false} otherwise
+	 */
+	@ClientOnly
+	public boolean updateConnections() {
+		if (this.world == null || !this.isGlassboard()) return false;
+
+		int connections = BakedGlassboardModel.getConnectionMask(this.world, this.getCachedState(), this.getPos());
+
+		synchronized (this) {
+			var renderData = this.renderData;
+			if (connections == renderData.connections()) return false;
+
+			this.renderData = new RenderData(renderData.mesh(), connections);
+			return true;
+		}
+	}
+
+	/**
+	 * Visits the glassboards connectable to this glassboard.
+	 *
+	 * @param consumer the consumer of the neighboring glassboards
+	 */
+	@ClientOnly
+	public void forEachConnectableNeighbor(Consumer<BlackboardBlockEntity> consumer) {
+		if (this.world == null || !this.isGlassboard()) return;
+
+		BakedGlassboardModel.forEachNeighbor(this.getCachedState(), this.getPos(), neighborPos -> {
+			if (this.world.getBlockEntity(neighborPos) instanceof BlackboardBlockEntity neighbor && neighbor != this) {
+				consumer.accept(neighbor);
+			}
+		});
 	}
 
 	@ClientOnly
 	public void markBlackboardRemoved() {
 		ACTIVE_BLACKBOARDS.remove(this);
+
+		if (this.world instanceof ClientWorld) {
+			this.forEachConnectableNeighbor(BlackboardRenderScheduler::scheduleConnectionUpdate);
+		}
 	}
 
 	@ClientOnly
@@ -245,6 +421,7 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public static void onWorldChange(@Nullable ClientWorld world) {
 		ACTIVE_BLACKBOARDS.removeIf(blackboardBlockEntity -> blackboardBlockEntity.world == null
 				|| blackboardBlockEntity.world != world);
+		BlackboardRenderScheduler.clear();
 	}
 
 	/* Serialization */
@@ -259,14 +436,14 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		}
 	}
 
+	/**
+	 * Schedules the mesh rebuild and the re-render of this blackboard for the next frame.
+	 *
+	 * @see BlackboardRenderScheduler
+	 */
 	public void refreshRendering() {
-		if (this.world instanceof ClientWorld clientWorld) {
-			this.rebuildMesh();
-			clientWorld.scheduleBlockRenders(
-					ChunkSectionPos.getSectionCoord(this.getPos().getX()),
-					ChunkSectionPos.getSectionCoord(this.getPos().getY()),
-					ChunkSectionPos.getSectionCoord(this.getPos().getZ())
-			);
+		if (this.world instanceof ClientWorld) {
+			BlackboardRenderScheduler.schedule(this);
 		}
 	}
 
@@ -279,6 +456,11 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public void readBlackBoardNbt(NbtCompound nbt) {
 		this.blackboard.readNbt(nbt);
 
+		if (this.world == null || !this.world.isClient()) {
+			// Loaded data is what the clients receive with the chunk.
+			this.syncedPixels = this.blackboard.getPixels().clone();
+		}
+
 		if (nbt.contains("custom_name", NbtElement.STRING_TYPE)) {
 			this.customName = Text.Serializer.fromJson(nbt.getString("custom_name"));
 		}
@@ -301,4 +483,15 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		@Override
 		public void setLit(boolean lit) {}
 	}
+
+	/**
+	 * Represents the render data of a blackboard, read by its model on the chunk builder threads.
+	 *
+	 * @param mesh the mesh of the pixels, or {@code null} if not built yet
+	 * @param connections the connection mask of the glassboard, or {@code -1} if unknown
+	 */
+	@ClientOnly
+	public record RenderData(@Nullable Mesh mesh, int connections) {
+		public static final RenderData EMPTY = new RenderData(null, -1);
+	}
 }
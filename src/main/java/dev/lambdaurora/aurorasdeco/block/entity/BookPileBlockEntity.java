@@ -17,13 +17,22 @@
 
 package dev.lambdaurora.aurorasdeco.block.entity;
 
+import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.renderer.BookPileEntityRenderer;
+import dev.lambdaurora.aurorasdeco.client.renderer.ItemMeshBaker;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.inventory.Inventories;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Random;
 
 /**
  * Represents a book pile block entity.
@@ -32,8 +41,18 @@ import net.minecraft.util.math.BlockPos;
  * @version 1.0.0
  * @since 1.0.0
  */
-public class BookPileBlockEntity extends BasicBlockEntity {
+public class BookPileBlockEntity extends BasicBlockEntity implements RenderAttachmentBlockEntity {
 	private final DefaultedList<ItemStack> books = DefaultedList.ofSize(5, ItemStack.EMPTY);
+	/**
+	 * The render rule selection keys of the books, or {@code null} if they need to be computed again.
+	 */
+	private int[] renderSelectionKeys;
+	/**
+	 * The layout of the books, or {@code null} if it needs to be computed again.
+	 */
+	private int[] bookLayout;
+	private volatile ItemMeshBaker.BakedItems renderData;
+	private boolean contentsDirty = true;
 
 	public BookPileBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.BOOK_PILE_BLOCK_ENTITY_TYPE, pos, state);
@@ -70,12 +89,111 @@ public class BookPileBlockEntity extends BasicBlockEntity {
 		return copy;
 	}
 
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		this.onContentsChanged();
+	}
+
+	/**
+	 * Drops the cached layout and render data of the books, and re-renders the book pile if it's on the client.
+	 */
+	private void onContentsChanged() {
+		this.renderSelectionKeys = null;
+		this.bookLayout = null;
+		this.contentsDirty = true;
+
+		if (this.world != null && this.world.isClient()) {
+			var state = this.getCachedState();
+			this.world.updateListeners(this.getPos(), state, state, Block.NOTIFY_LISTENERS);
+		}
+	}
+
+	/**
+	 * Returns the layout of the books, computed once per content change.
+	 * <p>
+	 * Each book is packed as {@code angle | level << 16}, where the angle is its rotation in degrees around the Y axis
+	 * and the level is its index among the non-empty books of the pile. Empty slots are {@code -1}.
+	 *
+	 * @return the layout of the books
+	 */
+	public int[] getBookLayout() {
+		if (this.bookLayout == null) {
+			var layout = new int[this.books.size()];
+			var random = new Random(this.getPos().asLong());
+
+			int level = 0;
+			for (int i = 0; i < layout.length; i++) {
+				if (this.books.get(i).isEmpty()) {
+					layout[i] = -1;
+					continue;
+				}
+
+				layout[i] = random.nextInt(360) | level << 16;
+				level++;
+			}
+
+			this.bookLayout = layout;
+		}
+
+		return this.bookLayout;
+	}
+
+	@Override
+	public @Nullable Object getRenderAttachmentData() {
+		return this.getRenderData();
+	}
+
+	/**
+	 * {@return the render data of the books, baked again if the books or the models changed}
+	 */
+	@ClientOnly
+	public ItemMeshBaker.BakedItems getRenderData() {
+		var renderData = this.renderData;
+
+		if (this.contentsDirty || renderData == null || !renderData.isCurrent()) {
+			this.contentsDirty = false;
+			renderData = BookPileEntityRenderer.bakeBooks(this);
+			this.renderData = renderData;
+		}
+
+		return renderData;
+	}
+
+	/**
+	 * {@return the render rule selection key of the book in the given slot}
+	 * <p>
+	 * Books are seeded by position and by their index among the non-empty books of the pile.
+	 *
+	 * @param slot the slot
+	 */
+	@ClientOnly
+	public int getRenderSelectionKey(int slot) {
+		if (this.renderSelectionKeys == null) {
+			long seed = this.getPos().asLong();
+			var keys = new int[this.books.size()];
+			var layout = this.getBookLayout();
+
+			for (int i = 0; i < keys.length; i++) {
+				if (layout[i] == -1)
+					continue;
+
+				keys[i] = RenderRule.getSelectionKey(this.books.get(i), seed + (layout[i] >> 16) * 20L);
+			}
+
+			this.renderSelectionKeys = keys;
+		}
+
+		return this.renderSelectionKeys[slot];
+	}
+
 	/* Serialization */
 
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
 		Inventories.readNbt(nbt, this.books);
+		this.onContentsChanged();
 	}
 
 	@Override
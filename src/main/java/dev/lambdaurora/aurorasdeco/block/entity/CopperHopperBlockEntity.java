@@ -19,17 +19,28 @@ package dev.lambdaurora.aurorasdeco.block.entity;
 
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.screen.CopperHopperScreenHandler;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSets;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.SimpleInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.screen.ScreenHandler;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.ItemScatterer;
 import net.minecraft.util.math.BlockPos;
 
+import java.util.Set;
+
 /**
  * Represents a copper hopper block entity.
  *
@@ -38,10 +49,23 @@ import net.minecraft.util.math.BlockPos;
  * @since 1.0.0
  */
 public class CopperHopperBlockEntity extends FilteredHopperBlockEntity {
+	/**
+	 * Incremented every time tags are loaded, as tag filters have to be compiled again.
+	 */
+	private static volatile int tagsGeneration = 0;
+
 	private final SimpleInventory filterInventory = new SimpleInventory(1);
+	private Filter compiledFilter;
+	private int compiledTagsGeneration;
 
 	public CopperHopperBlockEntity(BlockPos pos, BlockState state) {
 		super(pos, state);
+
+		this.filterInventory.addListener(inventory -> this.compiledFilter = null);
+	}
+
+	public static void init() {
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> tagsGeneration++);
 	}
 
 	public ItemStack getFilter() {
@@ -52,17 +76,37 @@ public class CopperHopperBlockEntity extends FilteredHopperBlockEntity {
 		ItemScatterer.spawn(this.getWorld(), this.getPos(), this.filterInventory);
 	}
 
+	/**
+	 * {@return the compiled filter of this hopper, compiled again if the filter stack or the tags changed}
+	 */
+	public Filter getCompiledFilter() {
+		var filter = this.compiledFilter;
+
+		if (filter == null || this.compiledTagsGeneration != tagsGeneration) {
+			this.compiledTagsGeneration = tagsGeneration;
+			filter = Filter.compile(this.getFilter());
+			this.compiledFilter = filter;
+		}
+
+		return filter;
+	}
+
 	@Override
 	public boolean testItem(ItemStack stack) {
-		return isItemAcceptedByFilter(stack, this.getFilter());
+		return this.getCompiledFilter().test(stack);
 	}
 
+	/**
+	 * Returns whether the given stack is accepted by the given filter stack.
+	 * <p>
+	 * This compiles the filter every time, hoppers use {@link #getCompiledFilter()} instead.
+	 *
+	 * @param stack the stack to test
+	 * @param filter the filter stack
+	 * @return {@code true} if the stack is accepted, or {@code false} otherwise
+	 */
 	public static boolean isItemAcceptedByFilter(ItemStack stack, ItemStack filter) {
-		if (filter.isEmpty())
-			return true;
-
-		// Simple mode
-		return filter.getItem() == stack.getItem();
+		return Filter.compile(filter).test(stack);
 	}
 
 	@Override
@@ -94,7 +138,74 @@ public class CopperHopperBlockEntity extends FilteredHopperBlockEntity {
 			nbt.put("filter", filter.writeNbt(new NbtCompound()));
 	}
 
+	/**
+	 * Represents a compiled copper hopper filter.
+	 * <p>
+	 * Filters are compiled from the filter stack into an item-keyed lookup set:
+	 * <ul>
+	 *     <li>by default, the filter accepts the item of the filter stack;</li>
+	 *     <li>if the filter stack has a {@value #FILTER_KEY} compound with a {@code tag} string,
+	 *     the filter accepts the items of that item tag;</li>
+	 *     <li>if the filter stack has a {@value #FILTER_KEY} compound with {@code match_nbt} set to {@code true},
+	 *     the filter accepts the item of the filter stack only if its NBT contains the rest of the NBT of the filter stack.</li>
+	 * </ul>
+	 */
 	public interface Filter {
-		boolean test(ItemStack stack, ItemStack filter);
+		String FILTER_KEY = "aurorasdeco:filter";
+		Filter ANY = stack -> true;
+
+		boolean test(ItemStack stack);
+
+		/**
+		 * Compiles the given filter stack into a filter.
+		 *
+		 * @param filter the filter stack
+		 * @return the compiled filter
+		 */
+		static Filter compile(ItemStack filter) {
+			if (filter.isEmpty())
+				return ANY;
+
+			var nbt = filter.getNbt();
+			if (nbt != null && nbt.contains(FILTER_KEY, NbtElement.COMPOUND_TYPE)) {
+				var definition = nbt.getCompound(FILTER_KEY);
+
+				if (definition.contains("tag", NbtElement.STRING_TYPE)) {
+					var tagId = Identifier.tryParse(definition.getString("tag"));
+
+					if (tagId != null) {
+						var items = new ReferenceOpenHashSet<Item>();
+						Registries.ITEM.getTagOrEmpty(TagKey.of(RegistryKeys.ITEM, tagId))
+								.forEach(holder -> items.add(holder.value()));
+						return new ItemSetFilter(items);
+					}
+				}
+
+				if (definition.getBoolean("match_nbt")) {
+					var expected = nbt.copy();
+					expected.remove(FILTER_KEY);
+
+					if (!expected.isEmpty()) {
+						return new NbtFilter(filter.getItem(), expected);
+					}
+				}
+			}
+
+			return new ItemSetFilter(ReferenceSets.singleton(filter.getItem()));
+		}
+	}
+
+	private record ItemSetFilter(Set<Item> items) implements Filter {
+		@Override
+		public boolean test(ItemStack stack) {
+			return this.items.contains(stack.getItem());
+		}
+	}
+
+	private record NbtFilter(Item item, NbtCompound nbt) implements Filter {
+		@Override
+		public boolean test(ItemStack stack) {
+			return stack.isOf(this.item) && NbtHelper.matches(this.nbt, stack.getNbt(), true);
+		}
 	}
 }
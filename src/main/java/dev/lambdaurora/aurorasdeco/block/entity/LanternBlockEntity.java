@@ -36,6 +36,26 @@ import org.quiltmc.loader.api.minecraft.ClientOnly;
  * @since 1.0.0
  */
 public class LanternBlockEntity extends SwayingBlockEntity {
+	/**
+	 * The period in ticks of the natural sway.
+	 */
+	private static final int NATURAL_SWAY_PERIOD = 125;
+	/**
+	 * The natural sway angles indexed by phase.
+	 */
+	private static final float[] NATURAL_SWAY_ANGLES = new float[NATURAL_SWAY_PERIOD];
+
+	static {
+		for (int phase = 0; phase < NATURAL_SWAY_PERIOD; phase++) {
+			float n = (float) phase / NATURAL_SWAY_PERIOD;
+			NATURAL_SWAY_ANGLES[phase] = (float) ((.01f * MathHelper.cos((float) (Math.PI * 2 * n))) * Math.PI);
+		}
+	}
+
+	/**
+	 * The phase offset of the natural sway, so neighboring lanterns don't sway in sync.
+	 */
+	private final int swayPhase;
 	private Box lanternCollisionBoxX;
 	private Box lanternCollisionBoxZ;
 	public float prevAngle;
@@ -43,6 +63,7 @@ public class LanternBlockEntity extends SwayingBlockEntity {
 
 	public LanternBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.WALL_LANTERN_BLOCK_ENTITY_TYPE, pos, state);
+		this.swayPhase = (int) Math.floorMod(pos.getX() * 7L + pos.getY() * 9L + pos.getZ() * 13L, (long) NATURAL_SWAY_PERIOD);
 	}
 
 	@Override
@@ -115,16 +136,11 @@ public class LanternBlockEntity extends SwayingBlockEntity {
 		if (!this.canNaturallySway())
 			return 0.f;
 
-		var pos = this.getPos();
-
 		long time = 0;
 		if (this.getWorld() != null) {
 			time = this.getWorld().getTime();
 		}
 
-		int period = 125;
-		float n = ((float) Math.floorMod(pos.getX() * 7L + pos.getY() * 9L + pos.getZ() * 13L + time, (long) period))
-				/ period;
-		return (float) ((.01f * MathHelper.cos((float) (Math.PI * 2 * n))) * Math.PI);
+		return NATURAL_SWAY_ANGLES[(int) Math.floorMod(this.swayPhase + time, (long) NATURAL_SWAY_PERIOD)];
 	}
 }
@@ -18,9 +18,14 @@
 package dev.lambdaurora.aurorasdeco.block.entity;
 
 import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
+import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.renderer.ItemMeshBaker;
+import dev.lambdaurora.aurorasdeco.client.renderer.ShelfBlockEntityRenderer;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.screen.ShelfScreenHandler;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -34,6 +39,8 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.block.entity.api.QuiltBlockEntity;
 
 /**
@@ -44,8 +51,14 @@ import org.quiltmc.qsl.block.entity.api.QuiltBlockEntity;
  * @since 1.0.0
  */
 public class ShelfBlockEntity extends LootableContainerBlockEntity
-		implements ExtendedScreenHandlerFactory, QuiltBlockEntity {
+		implements ExtendedScreenHandlerFactory, QuiltBlockEntity, RenderAttachmentBlockEntity {
 	private DefaultedList<ItemStack> inventory;
+	/**
+	 * The render rule selection keys of the stacks, or {@code null} if they need to be computed again.
+	 */
+	private int[] renderSelectionKeys;
+	private volatile ItemMeshBaker.BakedItems renderData;
+	private boolean contentsDirty = true;
 
 	public ShelfBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.SHELF_BLOCK_ENTITY_TYPE, pos, state);
@@ -71,6 +84,7 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		if (!this.deserializeLootTable(nbt)) {
 			Inventories.readNbt(nbt, this.inventory);
 		}
+		this.onContentsChanged();
 	}
 
 	@Override
@@ -106,6 +120,12 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 			this.sync();
 	}
 
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		this.onContentsChanged();
+	}
+
 	@Override
 	protected DefaultedList<ItemStack> getInvStackList() {
 		return this.inventory;
@@ -114,6 +134,27 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 	@Override
 	protected void setInvStackList(DefaultedList<ItemStack> list) {
 		this.inventory = list;
+		this.onContentsChanged();
+	}
+
+	/**
+	 * {@return the render rule selection key of the stack in the given slot}
+	 *
+	 * @param slot the slot
+	 */
+	@ClientOnly
+	public int getRenderSelectionKey(int slot) {
+		if (this.renderSelectionKeys == null) {
+			var keys = new int[this.inventory.size()];
+
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = RenderRule.getSelectionKey(this.inventory.get(i), 0);
+			}
+
+			this.renderSelectionKeys = keys;
+		}
+
+		return this.renderSelectionKeys[slot];
 	}
 
 	@Override
@@ -121,6 +162,42 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		return false;
 	}
 
+	/* Rendering */
+
+	/**
+	 * Drops the cached render data of the contents, and re-renders the shelf if it's on the client.
+	 */
+	private void onContentsChanged() {
+		this.renderSelectionKeys = null;
+		this.contentsDirty = true;
+
+		if (this.world != null && this.world.isClient()) {
+			var state = this.getCachedState();
+			this.world.updateListeners(this.getPos(), state, state, Block.NOTIFY_LISTENERS);
+		}
+	}
+
+	@Override
+	public @Nullable Object getRenderAttachmentData() {
+		return this.getRenderData();
+	}
+
+	/**
+	 * {@return the render data of the contents of this shelf, baked again if the contents or the models changed}
+	 */
+	@ClientOnly
+	public ItemMeshBaker.BakedItems getRenderData() {
+		var renderData = this.renderData;
+
+		if (this.contentsDirty || renderData == null || !renderData.isCurrent()) {
+			this.contentsDirty = false;
+			renderData = ShelfBlockEntityRenderer.bakeContents(this);
+			this.renderData = renderData;
+		}
+
+		return renderData;
+	}
+
 	@Override
 	public void writeScreenOpeningData(ServerPlayerEntity player, PacketByteBuf buf) {
 		buf.writeEnumConstant(this.getCachedState().get(ShelfBlock.TYPE));
@@ -17,6 +17,8 @@
 
 package dev.lambdaurora.aurorasdeco.block.entity;
 
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import dev.lambdaurora.aurorasdeco.client.SkyExposureCache;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
@@ -25,19 +27,42 @@ import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.LightType;
 import net.minecraft.world.World;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.Set;
 
+/**
+ * Represents a block entity which sways when hit or collided with.
+ * <p>
+ * On the server, swaying block entities sleep when they are neither swinging nor colliding with an entity,
+ * and are woken up by {@link #activate(Direction)} which is called from entity collisions, uses and projectile hits.
+ * A sleeping swaying block entity does nothing when ticked.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 public abstract class SwayingBlockEntity extends BlockEntity {
+	/**
+	 * The interval in ticks between two reports of the swaying block entity counters in development environments.
+	 */
+	private static final int REPORT_INTERVAL = 1200;
+	private static int activeCounter;
+	private static int sleepingCounter;
+	private static int activeCount;
+	private static int sleepingCount;
+	private static int reportTicks;
+
 	protected boolean naturalSway = false;
 	private int swingTicks;
 	private boolean swinging;
 	private Direction swingBaseDirection;
 	private boolean colliding = false;
 	private final Set<Entity> collisions = new ObjectOpenHashSet<>();
+	private boolean sleeping = true;
+	@ClientOnly
+	private SkyExposureCache.Section skyExposure;
 
 	public SwayingBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
@@ -103,6 +128,15 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 		return this.colliding;
 	}
 
+	/**
+	 * Returns whether this swaying block entity is sleeping on the server, and is skipped when ticked.
+	 *
+	 * @return {@code true} if this swaying block entity is sleeping, or {@code false} otherwise
+	 */
+	public boolean isSleeping() {
+		return this.sleeping;
+	}
+
 	/**
 	 * Swings the swaying block entity in a given direction.
 	 *
@@ -110,6 +144,7 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 	 */
 	public void activate(Direction direction) {
 		var blockPos = this.getPos();
+		this.sleeping = false;
 		this.swingBaseDirection = direction;
 		if (this.swinging) {
 			if (this.isColliding())
@@ -199,7 +234,12 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 
 	@ClientOnly
 	protected void tickClient(World world) {
-		this.naturalSway = world.getLightLevel(LightType.SKY, this.pos) >= 12;
+		var skyExposure = this.skyExposure;
+		if (skyExposure == null || skyExposure.isDiscarded()) {
+			this.skyExposure = skyExposure = SkyExposureCache.getSection(this.pos);
+		}
+
+		this.naturalSway = skyExposure.isExposed(world, this.pos);
 		this.tick();
 	}
 
@@ -208,6 +248,12 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 	}
 
 	public static void serverTick(World world, BlockPos pos, BlockState state, SwayingBlockEntity swayingBlockEntity) {
+		if (swayingBlockEntity.sleeping) {
+			sleepingCounter++;
+			return;
+		}
+
+		activeCounter++;
 		boolean canTick = true;
 
 		if (!swayingBlockEntity.collisions.isEmpty()) {
@@ -234,11 +280,49 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 		}
 
 		if (canTick) {
-			int oldSwingTicks = swayingBlockEntity.swingTicks;
+			int oldOutput = state.getComparatorOutput(world, pos);
 			swayingBlockEntity.tick();
-			if (oldSwingTicks != swayingBlockEntity.swingTicks) {
+			if (oldOutput != state.getComparatorOutput(world, pos)) {
 				world.updateComparators(pos, state.getBlock());
 			}
 		}
+
+		if (!swayingBlockEntity.swinging && !swayingBlockEntity.colliding && swayingBlockEntity.collisions.isEmpty()) {
+			// Nothing moves anymore, the next activation wakes this block entity up.
+			swayingBlockEntity.swingTicks = 0;
+			swayingBlockEntity.sleeping = true;
+		}
+	}
+
+	/**
+	 * Updates the counters of active and sleeping swaying block entities at the end of a server tick.
+	 */
+	public static void onServerTickEnd() {
+		activeCount = activeCounter;
+		sleepingCount = sleepingCounter;
+		activeCounter = 0;
+		sleepingCounter = 0;
+
+		if (++reportTicks >= REPORT_INTERVAL) {
+			reportTicks = 0;
+
+			if (activeCount != 0 || sleepingCount != 0) {
+				AurorasDeco.debug("Swaying block entities: {} active, {} sleeping.", activeCount, sleepingCount);
+			}
+		}
+	}
+
+	/**
+	 * {@return the amount of swaying block entities which got ticked during the last server tick}
+	 */
+	public static int getActiveCount() {
+		return activeCount;
+	}
+
+	/**
+	 * {@return the amount of swaying block entities which slept during the last server tick}
+	 */
+	public static int getSleepingCount() {
+		return sleepingCount;
 	}
 }
@@ -20,6 +20,7 @@ package dev.lambdaurora.aurorasdeco.block.entity;
 import dev.lambdaurora.aurorasdeco.block.WindChimeBlock;
 import dev.lambdaurora.aurorasdeco.client.Wind;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import dev.lambdaurora.aurorasdeco.world.WindModel;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
@@ -76,7 +77,7 @@ public class WindChimeBlockEntity extends SwayingBlockEntity {
 			this.pitch = MathHelper.sin(-wind.getWindZ()) * 0.85f;
 			this.roll = MathHelper.sin(wind.getWindX()) * 0.85f;
 
-			if (wind.getState() == Wind.State.STORMY) {
+			if (wind.getState() == WindModel.State.STORMY) {
 				this.pitch += MathHelper.sin((this.prevPitch - this.pitch) * this.getSwingTicks() / 4.f) * 0.02f;
 				this.roll += MathHelper.sin((this.prevRoll - this.roll) * this.getSwingTicks() / 4.f) * 0.02f;
 			} else {
@@ -39,6 +39,8 @@ import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRendererRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityModelLayerRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.minecraft.block.Block;
 import net.minecraft.block.TallPlantBlock;
 import net.minecraft.client.color.world.BiomeColors;
@@ -57,7 +59,7 @@ import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.base.api.entrypoint.client.ClientModInitializer;
 import org.quiltmc.qsl.block.extensions.api.client.BlockRenderLayerMap;
 import org.quiltmc.qsl.lifecycle.api.client.event.ClientLifecycleEvents;
-import org.quiltmc.qsl.lifecycle.api.client.event.ClientWorldTickEvents;
+import org.quiltmc.qsl.lifecycle.api.client.event.ClientTickEvents;
 import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
 import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
 
@@ -90,6 +92,10 @@ public class AurorasDecoClient implements ClientModInitializer {
 		/* Signs */
 		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.SIGN_POST_OPEN_GUI, AurorasDecoPackets.Client::handleSignPostOpenGuiPacket);
 
+		/* Blackboards */
+		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.BLACKBOARD_DELTA, AurorasDecoPackets.Client::handleBlackboardDeltaPacket);
+		WorldRenderEvents.START.register(context -> BlackboardRenderScheduler.onFrameStart(context.world()));
+
 		ClientLifecycleEvents.READY.register(client -> {
 			PottedPlantType.stream()
 					.forEach(plantType -> {
@@ -130,7 +136,8 @@ public class AurorasDecoClient implements ClientModInitializer {
 					});
 		});
 
-		ClientWorldTickEvents.START.register((client, world) -> Wind.get().tick(world));
+		SkyExposureCache.init();
+		ClientTickEvents.END.register(client -> PainterPaletteScrollBatcher.flush());
 
 		this.registerBlackboardItemRenderer(BLACKBOARD_BLOCK);
 		this.registerBlackboardItemRenderer(CHALKBOARD_BLOCK);
@@ -154,6 +161,9 @@ public class AurorasDecoClient implements ClientModInitializer {
 				WindChimeBlockEntityRenderer::getTexturedModelData);
 
 		ModelLoadingRegistry.INSTANCE.registerModelProvider(RenderRule::reload);
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			if (client) RenderRule.onTagsLoaded();
+		});
 		ModelLoadingRegistry.INSTANCE.registerVariantProvider(resourceManager -> new BakedSignPostModel.Provider());
 
 		ResourceLoader.get(ResourceType.CLIENT_RESOURCES).getRegisterDefaultResourcePackEvent().register(context -> {
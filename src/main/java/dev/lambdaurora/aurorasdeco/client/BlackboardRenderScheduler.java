@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Schedules the mesh rebuilds of blackboards and the re-render of their chunk sections.
+ * <p>
+ * Blackboards changed during a frame are deduplicated, their meshes are rebuilt at most once per frame
+ * and each affected chunk section is re-rendered once, no matter how many blackboards it holds.
+ * <p>
+ * The connections of glassboards are also updated here when a neighboring glassboard is placed or removed,
+ * so their models don't have to look up their neighbors every time their chunk section is rebuilt.
+ * <p>
+ * At most {@code aurorasdeco.blackboard.mesh_budget} meshes are rebuilt per frame (64 by default),
+ * the remaining blackboards are kept for the next frames.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class BlackboardRenderScheduler {
+	private static final int MESH_BUDGET = Math.max(Integer.getInteger("aurorasdeco.blackboard.mesh_budget", 64), 1);
+	private static final ObjectLinkedOpenHashSet<BlackboardBlockEntity> PENDING = new ObjectLinkedOpenHashSet<>();
+	private static final ObjectLinkedOpenHashSet<BlackboardBlockEntity> PLACED = new ObjectLinkedOpenHashSet<>();
+	private static final ObjectLinkedOpenHashSet<BlackboardBlockEntity> CONNECTION_UPDATES = new ObjectLinkedOpenHashSet<>();
+	private static final LongSet DIRTY_SECTIONS = new LongOpenHashSet();
+
+	private BlackboardRenderScheduler() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	/**
+	 * Schedules the mesh rebuild and re-render of the given blackboard.
+	 * <p>
+	 * This must be called on the client thread.
+	 *
+	 * @param blackboard the blackboard to refresh
+	 */
+	public static void schedule(BlackboardBlockEntity blackboard) {
+		PENDING.add(blackboard);
+	}
+
+	/**
+	 * Schedules the connection update of the given blackboard and of its neighbors, after it got placed or loaded.
+	 * <p>
+	 * This must be called on the client thread.
+	 *
+	 * @param blackboard the placed blackboard
+	 */
+	public static void schedulePlacedUpdate(BlackboardBlockEntity blackboard) {
+		PLACED.add(blackboard);
+	}
+
+	/**
+	 * Schedules the connection update of the given blackboard, after one of its neighbors changed.
+	 * <p>
+	 * This must be called on the client thread.
+	 *
+	 * @param blackboard the blackboard to update
+	 */
+	public static void scheduleConnectionUpdate(BlackboardBlockEntity blackboard) {
+		CONNECTION_UPDATES.add(blackboard);
+	}
+
+	/**
+	 * Rebuilds the meshes of the scheduled blackboards within the frame budget, then re-renders their chunk sections.
+	 *
+	 * @param world the world being rendered
+	 */
+	public static void onFrameStart(ClientWorld world) {
+		if (PENDING.isEmpty() && PLACED.isEmpty() && CONNECTION_UPDATES.isEmpty()) return;
+
+		if (!PLACED.isEmpty()) {
+			for (var blackboard : PLACED) {
+				if (blackboard.isRemoved() || blackboard.getWorld() != world) continue;
+
+				CONNECTION_UPDATES.add(blackboard);
+				blackboard.forEachConnectableNeighbor(CONNECTION_UPDATES::add);
+			}
+			PLACED.clear();
+		}
+
+		if (!CONNECTION_UPDATES.isEmpty()) {
+			for (var blackboard : CONNECTION_UPDATES) {
+				if (blackboard.isRemoved() || blackboard.getWorld() != world) continue;
+
+				if (blackboard.updateConnections()) {
+					markSectionDirty(blackboard);
+				}
+			}
+			CONNECTION_UPDATES.clear();
+		}
+
+		int budget = MESH_BUDGET;
+		var it = PENDING.iterator();
+		while (budget > 0 && it.hasNext()) {
+			var blackboard = it.next();
+			it.remove();
+
+			if (blackboard.isRemoved() || blackboard.getWorld() != world) continue;
+
+			blackboard.rebuildMesh();
+			budget--;
+
+			markSectionDirty(blackboard);
+		}
+
+		var sections = DIRTY_SECTIONS.iterator();
+		while (sections.hasNext()) {
+			long section = sections.nextLong();
+			world.scheduleBlockRenders(
+					ChunkSectionPos.unpackX(section), ChunkSectionPos.unpackY(section), ChunkSectionPos.unpackZ(section)
+			);
+		}
+		DIRTY_SECTIONS.clear();
+	}
+
+	private static void markSectionDirty(BlackboardBlockEntity blackboard) {
+		var pos = blackboard.getPos();
+		DIRTY_SECTIONS.add(ChunkSectionPos.asLong(
+				ChunkSectionPos.getSectionCoord(pos.getX()),
+				ChunkSectionPos.getSectionCoord(pos.getY()),
+				ChunkSectionPos.getSectionCoord(pos.getZ())
+		));
+	}
+
+	/**
+	 * Drops every scheduled blackboard, used when the client world changes.
+	 */
+	public static void clear() {
+		PENDING.clear();
+		PLACED.clear();
+		CONNECTION_UPDATES.clear();
+	}
+}
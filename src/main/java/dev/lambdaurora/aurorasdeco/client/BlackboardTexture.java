@@ -26,6 +26,7 @@ import org.joml.Matrix4f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -51,12 +52,22 @@ public class BlackboardTexture {
 		this.renderLayer = RenderLayer.getText(id);
 	}
 
+	/**
+	 * Gets the texture matching the given blackboard's contents, uploading a new one only if no texture
+	 * with the same pixels and lit state is cached.
+	 *
+	 * @param blackboard the blackboard
+	 * @return the texture of the blackboard
+	 */
 	public static BlackboardTexture fromBlackboard(Blackboard blackboard) {
-		return TEXTURE_CACHE.computeIfAbsent(blackboard, newBlackboard -> {
-			var texture = getOrCreateTexture();
-			texture.update(newBlackboard);
-			return texture;
-		});
+		return TEXTURE_CACHE.getOrUpload(blackboard);
+	}
+
+	/**
+	 * {@return the texture cache shared by the item renderer and the tooltip}
+	 */
+	public static BlackboardTextureLRUCache getCache() {
+		return TEXTURE_CACHE;
 	}
 
 	public static BlackboardTexture getOrCreateTexture() {
@@ -100,15 +111,58 @@ public class BlackboardTexture {
 		this.texture.upload();
 	}
 
-	static class BlackboardTextureLRUCache extends LinkedHashMap<Blackboard, BlackboardTexture> {
+	/**
+	 * Represents the blackboard texture cache, keyed by the contents of the blackboard rather than its identity.
+	 */
+	public static class BlackboardTextureLRUCache extends LinkedHashMap<ContentKey, BlackboardTexture> {
 		private final int capacity;
+		private final ContentKey lookupKey = new ContentKey();
+		private long hits;
+		private long misses;
+		private long uploads;
 
 		public BlackboardTextureLRUCache(int capacity) {
+			super(capacity + 1, 1.f, true);
 			this.capacity = capacity;
 		}
 
+		BlackboardTexture getOrUpload(Blackboard blackboard) {
+			var texture = this.get(this.lookupKey.set(blackboard.getPixels(), blackboard.isLit()));
+			this.lookupKey.set(null, false);
+
+			if (texture != null) {
+				this.hits++;
+				return texture;
+			}
+
+			this.misses++;
+			texture = getOrCreateTexture();
+			texture.update(blackboard);
+			this.uploads++;
+			this.put(ContentKey.copyOf(blackboard), texture);
+			return texture;
+		}
+
+		public long getHits() {
+			return this.hits;
+		}
+
+		public long getMisses() {
+			return this.misses;
+		}
+
+		public long getUploads() {
+			return this.uploads;
+		}
+
+		public void resetStatistics() {
+			this.hits = 0;
+			this.misses = 0;
+			this.uploads = 0;
+		}
+
 		@Override
-		protected boolean removeEldestEntry(Map.Entry<Blackboard, BlackboardTexture> eldest) {
+		protected boolean removeEldestEntry(Map.Entry<ContentKey, BlackboardTexture> eldest) {
 			if (this.size() > capacity) {
 				cacheTexture(eldest.getValue());
 				return true;
@@ -116,4 +170,38 @@ public class BlackboardTexture {
 			return false;
 		}
 	}
+
+	/**
+	 * Represents the content key of a cached texture.
+	 * <p>
+	 * The hash is computed from the 256 pixels and the lit flag, equality compares the full contents.
+	 */
+	static final class ContentKey {
+		private short[] pixels;
+		private boolean lit;
+		private int hash;
+
+		ContentKey set(short[] pixels, boolean lit) {
+			this.pixels = pixels;
+			this.lit = lit;
+			this.hash = pixels == null ? 0 : 31 * Arrays.hashCode(pixels) + Boolean.hashCode(lit);
+			return this;
+		}
+
+		static ContentKey copyOf(Blackboard blackboard) {
+			return new ContentKey().set(blackboard.getPixels().clone(), blackboard.isLit());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof ContentKey other)) return false;
+			return this.hash == other.hash && this.lit == other.lit && Arrays.equals(this.pixels, other.pixels);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.item.PainterPaletteItem;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
+import net.minecraft.util.math.MathHelper;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
+
+/**
+ * Coalesces the painter's palette scrolls of a tick into a single packet.
+ * <p>
+ * Trackpads and free-spinning mouse wheels can fire hundreds of scroll events in a short time,
+ * only their signed sum is sent at the end of the tick.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class PainterPaletteScrollBatcher {
+	private static int pendingSteps;
+	private static boolean pendingToolModifier;
+
+	private PainterPaletteScrollBatcher() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	/**
+	 * Adds scroll steps to send at the end of the tick.
+	 *
+	 * @param steps the signed amount of scroll steps
+	 * @param toolModifier {@code true} to scroll the tools, or {@code false} to scroll the colors
+	 */
+	public static void add(int steps, boolean toolModifier) {
+		if (toolModifier != pendingToolModifier) {
+			// Colors and tools scroll separately, the steps of the previous target are sent first.
+			flush();
+			pendingToolModifier = toolModifier;
+		}
+
+		pendingSteps = MathHelper.clamp(pendingSteps + steps,
+				-PainterPaletteItem.MAX_SCROLL_STEPS, PainterPaletteItem.MAX_SCROLL_STEPS);
+	}
+
+	/**
+	 * Sends the pending scroll steps to the server, if any.
+	 */
+	public static void flush() {
+		if (pendingSteps == 0) return;
+
+		if (ClientPlayNetworking.canSend(AurorasDecoPackets.PAINTER_PALETTE_SCROLL)) {
+			var buffer = PacketByteBufs.create();
+			buffer.writeByte(pendingSteps);
+			buffer.writeBoolean(pendingToolModifier);
+
+			ClientPlayNetworking.send(AurorasDecoPackets.PAINTER_PALETTE_SCROLL, buffer);
+		}
+
+		pendingSteps = 0;
+	}
+}
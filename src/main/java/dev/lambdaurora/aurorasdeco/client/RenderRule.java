@@ -21,6 +21,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.mojang.logging.LogUtils;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
@@ -42,7 +43,6 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -59,13 +59,30 @@ public record RenderRule(List<Model> models) {
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final Map<Identifier, RenderRule> ITEM_RULES = new Object2ObjectOpenHashMap<>();
 	private static final Map<TagKey<Item>, RenderRule> TAG_RULES = new Object2ObjectOpenHashMap<>();
-
-	public @Nullable Model getModelId(ItemStack stack, BlockState state, long seed) {
+	/**
+	 * Represents the absence of render rule in {@link #RESOLVED_RULES}.
+	 */
+	private static final RenderRule NO_RULE = new RenderRule(List.of());
+	/**
+	 * The render rule of each item, item rules are put in at reload while tag rules are resolved on first use
+	 * as tags are only known once synchronized by the server.
+	 */
+	private static final Map<Item, RenderRule> RESOLVED_RULES = new Reference2ObjectOpenHashMap<>();
+
+	/**
+	 * Selects the model to use for the given stack.
+	 *
+	 * @param stack the stack to render
+	 * @param state the block state the stack is rendered in
+	 * @param selectionKey the selection key of the stack, as computed by {@link #getSelectionKey(ItemStack, long)}
+	 * @return the selected model, or {@code null} if no model matches
+	 */
+	public @Nullable Model getModelId(ItemStack stack, BlockState state, int selectionKey) {
 		if (this.models.size() == 1) {
 			Model model = this.models.get(0);
 			return model.test(stack, state) ? model : null;
 		} else {
-			final int i = Math.abs(Objects.hash(stack.getCount(), stack.getName().getString(), seed) % this.models.size());
+			final int i = Math.abs(selectionKey % this.models.size());
 			int actualI = i;
 
 			Model model;
@@ -83,12 +100,55 @@ public record RenderRule(List<Model> models) {
 		}
 	}
 
-	public @Nullable BakedModel getModel(ItemStack stack, BlockState state, long seed) {
-		var model = this.getModelId(stack, state, seed);
+	public @Nullable BakedModel getModel(ItemStack stack, BlockState state, int selectionKey) {
+		var model = this.getModelId(stack, state, selectionKey);
 		return model == null ? null : model.getModel();
 	}
 
+	/**
+	 * Computes the key used to select a model among the models of a multi-model render rule.
+	 * <p>
+	 * This resolves the name of the stack, so the result is meant to be stored by the block entity
+	 * holding the stack and computed again only once its inventory changes.
+	 *
+	 * @param stack the stack
+	 * @param seed the seed of the stack in its container
+	 * @return the selection key
+	 * @see #getSelectionKey(int, String, long)
+	 */
+	public static int getSelectionKey(ItemStack stack, long seed) {
+		return getSelectionKey(stack.getCount(), stack.getName().getString(), seed);
+	}
+
+	/**
+	 * Computes the key used to select a model among the models of a multi-model render rule.
+	 * <p>
+	 * The key is equal to {@code Objects.hash(count, name, seed)}, so the selected models stay the same,
+	 * without boxing the values.
+	 *
+	 * @param count the count of the stack
+	 * @param name the name of the stack
+	 * @param seed the seed of the stack in its container
+	 * @return the selection key
+	 */
+	public static int getSelectionKey(int count, String name, long seed) {
+		int key = 31 + count;
+		key = 31 * key + name.hashCode();
+		return 31 * key + Long.hashCode(seed);
+	}
+
 	public static @Nullable RenderRule getRenderRule(ItemStack stack) {
+		var rule = RESOLVED_RULES.get(stack.getItem());
+
+		if (rule == null) {
+			rule = resolveRenderRule(stack);
+			RESOLVED_RULES.put(stack.getItem(), rule);
+		}
+
+		return rule == NO_RULE ? null : rule;
+	}
+
+	private static RenderRule resolveRenderRule(ItemStack stack) {
 		var itemId = Registries.ITEM.getId(stack.getItem());
 
 		var rule = ITEM_RULES.get(itemId);
@@ -102,15 +162,24 @@ public record RenderRule(List<Model> models) {
 			}
 		}
 
-		return null;
+		return NO_RULE;
 	}
 
-	public static BakedModel getModel(ItemStack stack, BlockState state, World world, long seed) {
+	/**
+	 * Drops the resolved render rules of the items after the tags got reloaded, keeping the item rules.
+	 */
+	public static void onTagsLoaded() {
+		RESOLVED_RULES.clear();
+		ITEM_RULES.forEach((itemId, rule) -> Registries.ITEM.getOrEmpty(itemId)
+				.ifPresent(item -> RESOLVED_RULES.put(item, rule)));
+	}
+
+	public static BakedModel getModel(ItemStack stack, BlockState state, World world, int selectionKey) {
 		BakedModel model = null;
 
 		var rule = RenderRule.getRenderRule(stack);
 		if (rule != null)
-			model = rule.getModel(stack, state, seed);
+			model = rule.getModel(stack, state, selectionKey);
 
 		if (model == null)
 			return MinecraftClient.getInstance().getItemRenderer().getHeldItemModel(stack, world, null, 0);
@@ -120,6 +189,7 @@ public record RenderRule(List<Model> models) {
 	public static void reload(ResourceManager manager, Consumer<Identifier> out) {
 		ITEM_RULES.clear();
 		TAG_RULES.clear();
+		RESOLVED_RULES.clear();
 
 		manager.findResources("aurorasdeco/render_rules", path -> path.getPath().endsWith(".json")).forEach((id, resource) -> {
 			try (var reader = new InputStreamReader(resource.open())) {
@@ -164,6 +234,8 @@ public record RenderRule(List<Model> models) {
 				LOGGER.error("Failed to read render rule {}. {}", id, e);
 			}
 		});
+
+		onTagsLoaded();
 	}
 
 	public record Model(ModelIdentifier modelId, @Nullable Block restrictedBlock, @Nullable TagKey<Block> restrictedBlockTag) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import net.minecraft.world.World;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Arrays;
+
+/**
+ * Caches whether positions are exposed enough to the sky for swaying blocks to naturally sway, per chunk section.
+ * <p>
+ * Exposures are sampled from the light engine the first time a position is queried,
+ * and the samples of a chunk section are dropped when its sky light gets updated.
+ * Swaying block entities keep a reference to their section, so querying a known position costs a bit test.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class SkyExposureCache {
+	/**
+	 * The minimum sky light level for a position to be exposed.
+	 */
+	public static final int MIN_SKY_LIGHT = 12;
+	private static final Long2ObjectMap<Section> SECTIONS = new Long2ObjectOpenHashMap<>();
+
+	private SkyExposureCache() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	public static void init() {
+		ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+			var chunkPos = chunk.getPos();
+
+			for (int y = world.getBottomSectionCoord(); y < world.getTopSectionCoord(); y++) {
+				var section = SECTIONS.remove(ChunkSectionPos.asLong(chunkPos.x, y, chunkPos.z));
+				if (section != null) section.discarded = true;
+			}
+		});
+	}
+
+	/**
+	 * Gets the cached section which holds the given position.
+	 *
+	 * @param pos the position
+	 * @return the section
+	 */
+	public static Section getSection(BlockPos pos) {
+		return SECTIONS.computeIfAbsent(ChunkSectionPos.fromBlockPos(pos.asLong()), section -> new Section());
+	}
+
+	/**
+	 * Drops the samples of the given section after a sky light update.
+	 * <p>
+	 * Empty sections take their sky light from the sections above, so the sections below are dropped too.
+	 *
+	 * @param pos the updated section
+	 */
+	public static void onSkyLightUpdate(ChunkSectionPos pos) {
+		if (SECTIONS.isEmpty()) return;
+
+		for (int y = pos.getSectionY(); ; y--) {
+			var section = SECTIONS.get(ChunkSectionPos.asLong(pos.getSectionX(), y, pos.getSectionZ()));
+			if (section == null) break;
+
+			section.invalidate();
+		}
+	}
+
+	/**
+	 * Drops every cached section, used when the client world changes.
+	 */
+	public static void reset() {
+		SECTIONS.values().forEach(section -> section.discarded = true);
+		SECTIONS.clear();
+	}
+
+	/**
+	 * Represents the sampled sky exposures of a chunk section.
+	 */
+	public static final class Section {
+		private final long[] known = new long[64];
+		private final long[] exposed = new long[64];
+		private boolean discarded;
+
+		private Section() {}
+
+		/**
+		 * {@return {@code true} if this section got dropped from the cache, or {@code false} otherwise}
+		 */
+		public boolean isDiscarded() {
+			return this.discarded;
+		}
+
+		/**
+		 * Returns whether the given position is exposed to the sky, the position must be in this section.
+		 *
+		 * @param world the world
+		 * @param pos the position
+		 * @return {@code true} if the sky light level at the given position is at least {@value SkyExposureCache#MIN_SKY_LIGHT},
+		 * or {@code false} otherwise
+		 */
+		public boolean isExposed(World world, BlockPos pos) {
+			int index = (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+			int word = index >> 6;
+			long bit = 1L << index;
+
+			if ((this.known[word] & bit) == 0) {
+				this.known[word] |= bit;
+
+				if (world.getLightLevel(LightType.SKY, pos) >= MIN_SKY_LIGHT) {
+					this.exposed[word] |= bit;
+				} else {
+					this.exposed[word] &= ~bit;
+				}
+			}
+
+			return (this.exposed[word] & bit) != 0;
+		}
+
+		private void invalidate() {
+			Arrays.fill(this.known, 0L);
+		}
+	}
+}
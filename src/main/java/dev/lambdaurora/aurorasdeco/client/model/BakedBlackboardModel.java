@@ -18,7 +18,7 @@
 package dev.lambdaurora.aurorasdeco.client.model;
 
 import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
-import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
 import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
 import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
@@ -32,6 +32,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.random.RandomGenerator;
 import net.minecraft.world.BlockRenderView;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.function.Supplier;
@@ -55,9 +56,12 @@ public class BakedBlackboardModel extends ForwardingBakedModel {
 	}
 
 	protected void emitBlockMesh(BlockRenderView blockView, BlockPos pos, RenderContext context) {
-		var attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
-		if (attachment instanceof Mesh mesh) {
-			context.meshConsumer().accept(mesh);
+		this.emitBlockMesh(((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos), context);
+	}
+
+	protected void emitBlockMesh(@Nullable Object attachment, RenderContext context) {
+		if (attachment instanceof BlackboardBlockEntity.RenderData renderData && renderData.mesh() != null) {
+			context.meshConsumer().accept(renderData.mesh());
 		}
 	}
 
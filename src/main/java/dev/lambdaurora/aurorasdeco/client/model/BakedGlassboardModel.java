@@ -18,23 +18,32 @@
 package dev.lambdaurora.aurorasdeco.client.model;
 
 import dev.lambdaurora.aurorasdeco.block.BlackboardBlock;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoTags;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.random.RandomGenerator;
+import net.minecraft.world.BlockView;
 import net.minecraft.world.BlockRenderView;
-import org.joml.Vector3f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 @ClientOnly
 public class BakedGlassboardModel extends BakedBlackboardModel {
+	/**
+	 * The moves left to visit every neighbor once at the left up corner.
+	 */
+	private static final Direction[] NEIGHBOR_WALK = {
+			Direction.EAST, Direction.EAST, Direction.DOWN, Direction.DOWN, Direction.WEST, Direction.WEST
+	};
 	private final Int2ObjectMap<List<BakedModel>> models;
 
 	public BakedGlassboardModel(BakedModel baseModel, Int2ObjectMap<List<BakedModel>> models) {
@@ -47,7 +56,61 @@ public class BakedGlassboardModel extends BakedBlackboardModel {
 		return false;
 	}
 
-	private int isBlockSame(BlockRenderView blockView, BlockPos pos, BlockState state, int mask) {
+	/**
+	 * Computes the connection mask of the glassboard at the given position, from the 8 neighbors in its plane.
+	 *
+	 * @param blockView the world
+	 * @param state the glassboard block state
+	 * @param pos the glassboard position
+	 * @return the connection mask
+	 */
+	public static int getConnectionMask(BlockView blockView, BlockState state, BlockPos pos) {
+		var facing = state.get(BlackboardBlock.FACING);
+		int mask = 0;
+		BlockPos.Mutable neighborPos = pos.mutableCopy();
+
+		move(neighborPos, facing, Direction.WEST);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_MASK);
+		move(neighborPos, facing, Direction.UP);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_UP_MASK);
+		move(neighborPos, facing, Direction.EAST);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.UP_MASK);
+		move(neighborPos, facing, Direction.EAST);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_UP_MASK);
+		move(neighborPos, facing, Direction.DOWN);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_MASK);
+		move(neighborPos, facing, Direction.DOWN);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_DOWN_MASK);
+		move(neighborPos, facing, Direction.WEST);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.DOWN_MASK);
+		move(neighborPos, facing, Direction.WEST);
+		mask |= isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_DOWN_MASK);
+
+		return mask;
+	}
+
+	/**
+	 * Visits the 8 neighbors in the plane of the glassboard at the given position.
+	 *
+	 * @param state the glassboard block state
+	 * @param pos the glassboard position
+	 * @param consumer the consumer of the neighbor positions, the position is mutable and must not be stored
+	 */
+	public static void forEachNeighbor(BlockState state, BlockPos pos, Consumer<BlockPos> consumer) {
+		var facing = state.get(BlackboardBlock.FACING);
+		BlockPos.Mutable neighborPos = pos.mutableCopy();
+
+		move(neighborPos, facing, Direction.WEST);
+		consumer.accept(neighborPos);
+		move(neighborPos, facing, Direction.UP);
+		consumer.accept(neighborPos);
+		for (var direction : NEIGHBOR_WALK) {
+			move(neighborPos, facing, direction);
+			consumer.accept(neighborPos);
+		}
+	}
+
+	private static int isBlockSame(BlockView blockView, BlockPos pos, BlockState state, int mask) {
 		BlockState neighborState = blockView.getBlockState(pos);
 		if (neighborState.isOf(state.getBlock())) {
 			if (neighborState.get(BlackboardBlock.FACING) == state.get(BlackboardBlock.FACING)) {
@@ -60,84 +123,31 @@ public class BakedGlassboardModel extends BakedBlackboardModel {
 
 	@Override
 	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<RandomGenerator> randomSupplier, RenderContext context) {
-		var facing = state.get(BlackboardBlock.FACING);
-		int mask = 0;
-		BlockPos.Mutable neighborPos = pos.mutableCopy();
-
-		this.move(neighborPos, facing, Direction.WEST);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_MASK);
-		this.move(neighborPos, facing, Direction.UP);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_UP_MASK);
-		this.move(neighborPos, facing, Direction.EAST);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.UP_MASK);
-		this.move(neighborPos, facing, Direction.EAST);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_UP_MASK);
-		this.move(neighborPos, facing, Direction.DOWN);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_MASK);
-		this.move(neighborPos, facing, Direction.DOWN);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.RIGHT_DOWN_MASK);
-		this.move(neighborPos, facing, Direction.WEST);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.DOWN_MASK);
-		this.move(neighborPos, facing, Direction.WEST);
-		mask |= this.isBlockSame(blockView, neighborPos, state, UnbakedGlassboardModel.LEFT_DOWN_MASK);
-
-		final int fixedMask = mask;
+		var attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
+		int mask = attachment instanceof BlackboardBlockEntity.RenderData renderData && renderData.connections() != -1
+				? renderData.connections()
+				: getConnectionMask(blockView, state, pos);
 
+		var adjacentPos = new BlockPos.Mutable();
 		context.pushTransform(quad -> {
 			var cullFace = quad.cullFace();
 			if (cullFace != null) {
-				var adjacentPos = pos.offset(cullFace);
+				adjacentPos.set(pos, cullFace);
 				return !blockView.getBlockState(adjacentPos).isIn(AurorasDecoTags.GLASSBOARD_BLOCKS); // Force the culling.
 			}
 
 			return true;
 		});
 
-		this.models.get(fixedMask).forEach(context.bakedModelConsumer());
+		this.models.get(mask).forEach(context.bakedModelConsumer());
 
 		context.popTransform();
 
-		this.emitBlockMesh(blockView, pos, context);
-
-		context.pushTransform(quad -> {
-			quad.nominalFace(quad.lightFace().rotateYClockwise());
-			Direction direction = quad.lightFace();
-			var quadPos = new Vector3f();
-
-			float leftValue;
-			float rightValue;
-
-			if (direction.getAxis() == Direction.Axis.Z) {
-				quad.copyPos(0, quadPos);
-				leftValue = quadPos.x();
-				quad.copyPos(2, quadPos);
-				rightValue = quadPos.x();
-			} else if (direction.getAxis() == Direction.Axis.X) {
-				quad.copyPos(0, quadPos);
-				leftValue = quadPos.z();
-				quad.copyPos(2, quadPos);
-				rightValue = quadPos.z();
-			} else {
-				leftValue = rightValue = 0;
-			}
-
-			for (int i = 0; i < 4; i++) {
-				quad.copyPos(i, quadPos);
-
-				if (direction.getAxis() == Direction.Axis.Z) {
-					quad.pos(i, i < 2 ? rightValue : leftValue, quadPos.y(), quadPos.z());
-				} else if (direction.getAxis() == Direction.Axis.X) {
-					quad.pos(i, quadPos.x(), quadPos.y(), i < 2 ? rightValue : leftValue);
-				}
-			}
-			return true;
-		});
-
-		this.emitBlockMesh(blockView, pos, context);
-		context.popTransform();
+		// The mesh of glassboards already holds the back faces.
+		this.emitBlockMesh(attachment, context);
 	}
 
-	private void move(BlockPos.Mutable pos, Direction facing, Direction direction) {
+	private static void move(BlockPos.Mutable pos, Direction facing, Direction direction) {
 		if (facing.getAxis().isHorizontal()) {
 			if (direction.getAxis().isHorizontal()) {
 				pos.move(direction == Direction.WEST ? facing.rotateYClockwise() : facing.rotateYCounterclockwise());
@@ -91,20 +91,19 @@ public class BlackboardItemRenderer implements BuiltinItemRendererRegistry.Dynam
 			}
 
 			var blackboard = Blackboard.fromNbt(nbt);
-			BlackboardTexture.fromBlackboard(blackboard)
-					.render(
-							matrices.peek().getModel(), vertexConsumers,
-							blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
-							false
-					);
+			var texture = BlackboardTexture.fromBlackboard(blackboard);
+			texture.render(
+					matrices.peek().getModel(), vertexConsumers,
+					blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
+					false
+			);
 
 			if (stack.getTranslationKey().contains("glass")) {
-				BlackboardTexture.fromBlackboard(blackboard)
-						.render(
-								matrices.peek().getModel(), vertexConsumers,
-								blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
-								true
-						);
+				texture.render(
+						matrices.peek().getModel(), vertexConsumers,
+						blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
+						true
+				);
 			}
 		}
 		matrices.pop();
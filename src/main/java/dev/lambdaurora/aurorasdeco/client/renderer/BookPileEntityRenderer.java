@@ -23,14 +23,16 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.render.model.json.ModelTransformationMode;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.Axis;
 
-import java.util.Random;
-
 /**
  * Represents the book pile block entity renderer.
+ * <p>
+ * Most books are baked into the chunk mesh of the book pile when its books change, see {@link #bakeBooks(BookPileBlockEntity)}.
+ * This renderer only draws the books which cannot be baked, like enchanted books.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -42,38 +44,24 @@ public class BookPileEntityRenderer implements BlockEntityRenderer<BookPileBlock
 	@Override
 	public void render(BookPileBlockEntity bookPile, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
-		long seed = bookPile.getPos().asLong();
-
-		var random = new Random(seed);
+		var bakedItems = bookPile.getRenderData();
+		if (bakedItems.dynamicSlots() == 0)
+			return;
 
 		var renderer = MinecraftClient.getInstance().getItemRenderer();
+		var books = bookPile.getBooks();
+		var layout = bookPile.getBookLayout();
 
-		matrices.push();
-		int i = 0;
-		for (var stack : bookPile.getBooks()) {
-			if (stack.isEmpty())
+		for (int slot = 0; slot < books.size(); slot++) {
+			if (!bakedItems.isDynamic(slot) || layout[slot] == -1)
 				continue;
 
-			var model = RenderRule.getModel(stack, bookPile.getCachedState(), bookPile.getWorld(), seed + i * 20L);
-			matrices.push();
-
-			// Do the random rotation first on the Y axis.
-			{
-				matrices.translate(.5, 0, .5);
-				int angle = random.nextInt(360);
-				matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(angle));
-				matrices.translate(-.5, 0, -.5);
-			}
-
-			// Makes the book lay on the floor.
-			matrices.translate(.5, .025, .5);
-			matrices.multiply(Axis.Z_POSITIVE.rotationDegrees(90));
-			matrices.translate(3 / 16.f - .15, 0, 0);
-			matrices.scale(.45f, .45f, .45f);
+			var stack = books.get(slot);
+			var model = RenderRule.getModel(stack, bookPile.getCachedState(), bookPile.getWorld(),
+					bookPile.getRenderSelectionKey(slot));
 
-			if (model.hasDepth()) {
-				matrices.translate(0, -0.2, 0);
-			}
+			matrices.push();
+			applyBookTransform(matrices, layout[slot], model);
 
 			renderer.renderItem(stack,
 					ModelTransformationMode.FIXED, false,
@@ -81,12 +69,67 @@ public class BookPileEntityRenderer implements BlockEntityRenderer<BookPileBlock
 					light, overlay,
 					model);
 			matrices.pop();
+		}
+	}
+
+	/**
+	 * Bakes the books of the given book pile into a mesh to emit with the book pile model.
+	 *
+	 * @param bookPile the book pile
+	 * @return the baked books of the book pile
+	 * @see ItemMeshBaker
+	 */
+	public static ItemMeshBaker.BakedItems bakeBooks(BookPileBlockEntity bookPile) {
+		var baker = new ItemMeshBaker();
+		var books = bookPile.getBooks();
+		var layout = bookPile.getBookLayout();
+		var matrices = new MatrixStack();
+
+		for (int slot = 0; slot < books.size(); slot++) {
+			if (layout[slot] == -1)
+				continue;
+
+			var stack = books.get(slot);
+			var model = RenderRule.getModel(stack, bookPile.getCachedState(), bookPile.getWorld(),
+					bookPile.getRenderSelectionKey(slot));
+
+			matrices.push();
+			applyBookTransform(matrices, layout[slot], model);
+			baker.add(slot, stack, model, matrices);
+			matrices.pop();
+		}
+
+		return baker.build();
+	}
+
+	/**
+	 * Applies the transformation of a book, from the origin of the book pile block.
+	 *
+	 * @param matrices the matrix stack
+	 * @param layout the packed layout of the book
+	 * @param model the model of the book
+	 * @see BookPileBlockEntity#getBookLayout()
+	 */
+	private static void applyBookTransform(MatrixStack matrices, int layout, BakedModel model) {
+		int angle = layout & 0xffff;
+		int level = layout >> 16;
+
+		// Stacks the book on top of the previous ones.
+		matrices.translate(0, level * 0.12, 0);
+
+		// Do the random rotation first on the Y axis.
+		matrices.translate(.5, 0, .5);
+		matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(angle));
+		matrices.translate(-.5, 0, -.5);
 
-			// Translation for new book.
-			matrices.translate(0, 0.12, 0);
+		// Makes the book lay on the floor.
+		matrices.translate(.5, .025, .5);
+		matrices.multiply(Axis.Z_POSITIVE.rotationDegrees(90));
+		matrices.translate(3 / 16.f - .15, 0, 0);
+		matrices.scale(.45f, .45f, .45f);
 
-			i++;
+		if (model.hasDepth()) {
+			matrices.translate(0, -0.2, 0);
 		}
-		matrices.pop();
 	}
 }
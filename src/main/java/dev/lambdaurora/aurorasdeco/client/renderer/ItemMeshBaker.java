@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.renderer;
+
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.json.ModelOverrideList;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.random.RandomGenerator;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Bakes the item stacks displayed by a block entity into a mesh, which is emitted with the block model into the chunk mesh
+ * instead of rendering the stacks every frame.
+ * <p>
+ * Stacks which cannot be baked are marked as dynamic and are left to the block entity renderer:
+ * stacks with an enchantment glint, builtin or non-vanilla models, and models with overrides as they may animate.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class ItemMeshBaker {
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final MinecraftClient client = MinecraftClient.getInstance();
+	private final Renderer renderer = RendererAccess.INSTANCE.getRenderer();
+	private final MeshBuilder meshBuilder = this.renderer.meshBuilder();
+	private final QuadEmitter emitter = this.meshBuilder.getEmitter();
+	private final RandomGenerator random = RandomGenerator.createLegacy();
+	private final Vector3f vertexPos = new Vector3f();
+	private int dynamicSlots = 0;
+	private boolean empty = true;
+
+	/**
+	 * Bakes the given stack, or marks its slot as dynamic if it cannot be baked.
+	 *
+	 * @param slot the slot of the stack
+	 * @param stack the stack
+	 * @param model the model to render the stack with
+	 * @param matrices the matrix stack, transformed like for {@code ItemRenderer#renderItem} in the fixed mode
+	 */
+	public void add(int slot, ItemStack stack, BakedModel model, MatrixStack matrices) {
+		if (!this.canBake(stack, model)) {
+			this.dynamicSlots |= 1 << slot;
+			return;
+		}
+
+		matrices.push();
+		// Mirrors ItemRenderer#renderItem.
+		model.getTransformation().getTransformation(ModelTransformationMode.FIXED).apply(false, matrices);
+		matrices.translate(-.5f, -.5f, -.5f);
+		var matrix = matrices.peek().getPositionMatrix();
+
+		var material = this.renderer.materialFinder()
+				.blendMode(0, getBlendMode(stack))
+				.disableAo(0, true)
+				.find();
+
+		for (int i = 0; i <= DIRECTIONS.length; i++) {
+			var face = i == DIRECTIONS.length ? null : DIRECTIONS[i];
+			this.random.setSeed(42L);
+
+			for (var quad : model.getQuads(null, face, this.random)) {
+				this.emitter.fromVanilla(quad, material, null);
+
+				for (int vertex = 0; vertex < 4; vertex++) {
+					this.emitter.copyPos(vertex, this.vertexPos);
+					matrix.transformPosition(this.vertexPos);
+					this.emitter.pos(vertex, this.vertexPos);
+				}
+				this.emitter.nominalFace(Direction.transform(matrix, quad.getFace()));
+
+				if (quad.hasColor()) {
+					int color = 0xff000000 | this.client.getItemColors().getColor(stack, quad.getColorIndex());
+					this.emitter.spriteColor(0, color, color, color, color);
+				}
+				// The tint is already applied, the block colors must not be applied on top of it.
+				this.emitter.colorIndex(-1);
+				this.emitter.emit();
+			}
+		}
+
+		matrices.pop();
+		this.empty = false;
+	}
+
+	/**
+	 * {@return the baked stacks}
+	 */
+	public BakedItems build() {
+		return new BakedItems(this.empty ? null : this.meshBuilder.build(), this.dynamicSlots,
+				this.client.getBakedModelManager().getMissingModel());
+	}
+
+	private boolean canBake(ItemStack stack, BakedModel model) {
+		if (stack.hasGlint() || model.isBuiltin() || !((FabricBakedModel) model).isVanillaAdapter())
+			return false;
+
+		// Those are swapped for another model by the item renderer in the fixed transformation mode.
+		if (stack.isOf(Items.TRIDENT) || stack.isOf(Items.SPYGLASS))
+			return false;
+
+		var itemModel = this.client.getItemRenderer().getModels().getModel(stack);
+		return itemModel.getOverrides() == ModelOverrideList.EMPTY;
+	}
+
+	/**
+	 * {@return the blend mode matching the layer the item renderer draws the given stack in}
+	 * <p>
+	 * Block items are drawn in a cutout layer unless their block is translucent, even if the block itself is solid,
+	 * as their sprites may have transparent pixels.
+	 *
+	 * @param stack the stack
+	 */
+	private static BlendMode getBlendMode(ItemStack stack) {
+		if (stack.getItem() instanceof BlockItem blockItem) {
+			var layer = RenderLayers.getBlockLayer(blockItem.getBlock().getDefaultState());
+			return layer == RenderLayer.getTranslucent() ? BlendMode.TRANSLUCENT : BlendMode.CUTOUT;
+		}
+
+		// Items are drawn in a translucent layer by the item renderer.
+		return BlendMode.TRANSLUCENT;
+	}
+
+	/**
+	 * Represents baked item stacks, read by the block model on the chunk builder threads.
+	 *
+	 * @param mesh the mesh of the baked stacks, or {@code null} if none could be baked
+	 * @param dynamicSlots the mask of the slots which have to be rendered every frame by the block entity renderer
+	 * @param missingModel the missing model at the time of baking,
+	 * it is baked again on every resource reload so it tells whether the mesh uses the current models and sprites
+	 */
+	public record BakedItems(@Nullable Mesh mesh, int dynamicSlots, BakedModel missingModel) {
+		public boolean isDynamic(int slot) {
+			return (this.dynamicSlots & (1 << slot)) != 0;
+		}
+
+		public boolean isCurrent() {
+			return this.missingModel == MinecraftClient.getInstance().getBakedModelManager().getMissingModel();
+		}
+	}
+}
@@ -20,26 +20,70 @@ package dev.lambdaurora.aurorasdeco.client.renderer;
 import dev.lambdaurora.aurorasdeco.block.WallLanternBlock;
 import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
 import dev.lambdaurora.aurorasdeco.hook.LBGHooks;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.OverlayTexture;
 import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.render.model.BakedQuad;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Axis;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.random.LegacySimpleRandom;
 import net.minecraft.util.random.RandomGenerator;
 import net.minecraft.util.random.RandomSeed;
+import net.minecraft.world.World;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the wall lantern block entity renderer.
+ * <p>
+ * The quads of each lantern block state are gathered once and replayed with the swing transform,
+ * instead of going through the block renderer every frame. Renderers are recreated on resource reload,
+ * which drops the cached models.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 @ClientOnly
 public class LanternBlockEntityRenderer extends SwayingBlockEntityRenderer<LanternBlockEntity> {
+	private static final Direction[] QUAD_FACES = {
+			Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST, null
+	};
+
 	private final MinecraftClient client = MinecraftClient.getInstance();
 	private final RandomGenerator random = new LegacySimpleRandom(RandomSeed.generateUniqueSeed());
+	private final Map<BlockState, CachedLanternModel> cache = new Reference2ObjectOpenHashMap<>();
+	private long cacheHits;
+	private long cacheMisses;
 
 	public LanternBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {}
 
+	/**
+	 * {@return the amount of lantern block states whose model is cached}
+	 */
+	public int getCacheSize() {
+		return this.cache.size();
+	}
+
+	public long getCacheHits() {
+		return this.cacheHits;
+	}
+
+	public long getCacheMisses() {
+		return this.cacheMisses;
+	}
+
 	@Override
 	public int getRenderDistance() {
 		return 128;
@@ -91,16 +135,75 @@ public class LanternBlockEntityRenderer extends SwayingBlockEntityRenderer<Lante
 
 		matrices.multiply(Axis.Y_NEGATIVE.rotationDegrees(lanternRotation));
 
-		var lanternShape = lanternState.getOutlineShape(lantern.getWorld(), pos);
-		var lanternShapeMaxY = lanternShape.getMax(Direction.Axis.Y);
-		var lanternShapeMinY = lanternShape.getMin(Direction.Axis.Y);
-		var size = lanternShapeMaxY - lanternShapeMinY;
-		matrices.translate(-8.f / 16.f, -1.f / 16.f - size, -8.f / 16.f);
+		var model = this.getModel(lanternState, lantern.getWorld(), pos);
+		matrices.translate(-8.f / 16.f, -1.f / 16.f - model.size(), -8.f / 16.f);
 
-		LBGHooks.pushDisableBetterLayer();
-		this.client.getBlockRenderManager().renderBlock(lanternState, pos, lantern.getWorld(), matrices, consumer,
-				false, this.random);
-		LBGHooks.popDisableBetterLayer();
+		if (model.quads() != null) {
+			this.renderQuads(model.quads(), lanternState, lantern.getWorld(), pos, matrices, consumer, light);
+		} else {
+			LBGHooks.pushDisableBetterLayer();
+			this.client.getBlockRenderManager().renderBlock(lanternState, pos, lantern.getWorld(), matrices, consumer,
+					false, this.random);
+			LBGHooks.popDisableBetterLayer();
+		}
 		matrices.pop();
 	}
+
+	private CachedLanternModel getModel(BlockState lanternState, World world, BlockPos pos) {
+		var model = this.cache.get(lanternState);
+
+		if (model != null) {
+			this.cacheHits++;
+			return model;
+		}
+
+		this.cacheMisses++;
+
+		var lanternShape = lanternState.getOutlineShape(world, pos);
+		float size = (float) (lanternShape.getMax(Direction.Axis.Y) - lanternShape.getMin(Direction.Axis.Y));
+
+		var bakedModel = this.client.getBlockRenderManager().getModel(lanternState);
+		List<BakedQuad> quads = null;
+		if (bakedModel.isVanillaAdapter()) {
+			quads = new ArrayList<>();
+			for (var face : QUAD_FACES) {
+				this.random.setSeed(42L);
+				quads.addAll(bakedModel.getQuads(lanternState, face, this.random));
+			}
+		} // Models with custom rendering still need to go through the block renderer.
+
+		model = new CachedLanternModel(size, quads);
+		this.cache.put(lanternState, model);
+		return model;
+	}
+
+	private void renderQuads(List<BakedQuad> quads, BlockState lanternState, World world, BlockPos pos,
+			MatrixStack matrices, VertexConsumer consumer, int light) {
+		var entry = matrices.peek();
+
+		for (int i = 0; i < quads.size(); i++) {
+			var quad = quads.get(i);
+			float brightness = world.getBrightness(quad.getFace(), quad.hasShade());
+			float red = brightness;
+			float green = brightness;
+			float blue = brightness;
+
+			if (quad.hasColor()) {
+				int color = this.client.getBlockColors().getColor(lanternState, world, pos, quad.getColorIndex());
+				red *= (color >> 16 & 255) / 255.f;
+				green *= (color >> 8 & 255) / 255.f;
+				blue *= (color & 255) / 255.f;
+			}
+
+			consumer.quad(entry, quad, red, green, blue, light, OverlayTexture.DEFAULT_UV);
+		}
+	}
+
+	/**
+	 * Represents the cached model of a lantern block state.
+	 *
+	 * @param size the height of the lantern outline shape
+	 * @param quads the quads of the lantern model, or {@code null} if the model must go through the block renderer
+	 */
+	private record CachedLanternModel(float size, List<BakedQuad> quads) {}
 }
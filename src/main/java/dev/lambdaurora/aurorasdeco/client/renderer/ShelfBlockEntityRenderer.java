@@ -24,6 +24,7 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.render.model.json.ModelTransformationMode;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.Axis;
@@ -31,6 +32,9 @@ import net.minecraft.util.math.Direction;
 
 /**
  * Represents the shelf block entity renderer.
+ * <p>
+ * Most stacks are baked into the chunk mesh of the shelf when its contents change, see {@link #bakeContents(ShelfBlockEntity)}.
+ * This renderer only draws the stacks which cannot be baked, like stacks with an enchantment glint or animated models.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -42,9 +46,73 @@ public class ShelfBlockEntityRenderer implements BlockEntityRenderer<ShelfBlockE
 	@Override
 	public void render(ShelfBlockEntity shelf, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
+		var bakedItems = shelf.getRenderData();
+		if (bakedItems.dynamicSlots() == 0)
+			return;
+
 		var facing = shelf.getCachedState().get(ShelfBlock.FACING);
+		var renderer = MinecraftClient.getInstance().getItemRenderer();
+
+		for (int slot = 0; slot < shelf.size(); slot++) {
+			if (!bakedItems.isDynamic(slot))
+				continue;
+
+			var stack = shelf.getStack(slot);
+			if (stack.isEmpty())
+				continue;
+
+			var model = RenderRule.getModel(stack, shelf.getCachedState(), shelf.getWorld(), shelf.getRenderSelectionKey(slot));
+
+			matrices.push();
+			applySlotTransform(matrices, facing, slot, model);
+
+			renderer.renderItem(stack,
+					ModelTransformationMode.FIXED, false,
+					matrices, vertexConsumers,
+					light, overlay,
+					model);
+			matrices.pop();
+		}
+	}
+
+	/**
+	 * Bakes the contents of the given shelf into a mesh to emit with the shelf model.
+	 *
+	 * @param shelf the shelf
+	 * @return the baked contents of the shelf
+	 * @see ItemMeshBaker
+	 */
+	public static ItemMeshBaker.BakedItems bakeContents(ShelfBlockEntity shelf) {
+		var baker = new ItemMeshBaker();
+		var state = shelf.getCachedState();
+		var facing = state.get(ShelfBlock.FACING);
+		var matrices = new MatrixStack();
+
+		for (int slot = 0; slot < shelf.size(); slot++) {
+			var stack = shelf.getStack(slot);
+			if (stack.isEmpty())
+				continue;
 
-		matrices.push();
+			var model = RenderRule.getModel(stack, state, shelf.getWorld(), shelf.getRenderSelectionKey(slot));
+
+			matrices.push();
+			applySlotTransform(matrices, facing, slot, model);
+			baker.add(slot, stack, model, matrices);
+			matrices.pop();
+		}
+
+		return baker.build();
+	}
+
+	/**
+	 * Applies the transformation of the given shelf slot, from the origin of the shelf block.
+	 *
+	 * @param matrices the matrix stack
+	 * @param facing the direction the shelf is facing
+	 * @param slot the slot
+	 * @param model the model of the stack in the slot
+	 */
+	private static void applySlotTransform(MatrixStack matrices, Direction facing, int slot, BakedModel model) {
 		matrices.translate(0.5, 0.8, 0.5);
 		matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(facing.asRotation()));
 
@@ -55,40 +123,12 @@ public class ShelfBlockEntityRenderer implements BlockEntityRenderer<ShelfBlockE
 
 		matrices.scale(.24f, .24f, .24f);
 
-		var renderer = MinecraftClient.getInstance().getItemRenderer();
-
-		for (int y = 0; y < 2; y++) {
-			if (y != 0) {
-				matrices.translate(0, -.5 / .24, 0);
-			}
+		int x = slot & 3;
+		int y = slot >> 2;
+		matrices.translate(-x, -y * .5 / .24, 0);
 
-			matrices.push();
-			for (int x = 0; x < 4; x++) {
-				if (x != 0) {
-					matrices.translate(-1.f, 0.f, 0.f);
-				}
-
-				var stack = shelf.getStack(x + y * 4);
-				if (stack.isEmpty())
-					continue;
-
-				var model = RenderRule.getModel(stack, shelf.getCachedState(), shelf.getWorld(), 0);
-
-				matrices.push();
-				if (model.hasDepth()) {
-					matrices.translate(0, -0.2, 0);
-				}
-
-				renderer.renderItem(stack,
-						ModelTransformationMode.FIXED, false,
-						matrices, vertexConsumers,
-						light, overlay,
-						model);
-				matrices.pop();
-			}
-			matrices.pop();
+		if (model.hasDepth()) {
+			matrices.translate(0, -0.2, 0);
 		}
-
-		matrices.pop();
 	}
 }
@@ -19,20 +19,38 @@ package dev.lambdaurora.aurorasdeco.client.renderer;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import dev.lambdaurora.aurorasdeco.block.entity.WindChimeBlockEntity;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
 import net.minecraft.client.model.*;
 import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.entity.BlockEntityRenderDispatcher;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
 import net.minecraft.client.render.entity.model.EntityModelLayer;
 import net.minecraft.client.util.SpriteIdentifier;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.screen.PlayerScreenHandler;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Represents the wind chime block entity renderer.
+ * <p>
+ * The geometry of the chimes is captured once from their model parts, then each chime is written straight
+ * into the vertex consumer with a single reused transform, without going through the model parts every frame.
+ * Chimes further than {@code aurorasdeco.wind_chime.animation_distance} blocks (32 by default) from the camera
+ * are drawn at rest.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 @ClientOnly
 public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChimeBlockEntity> {
 	public static final EntityModelLayer WIND_CHIME_MODEL_LAYER = new EntityModelLayer(AurorasDeco.id("wind_chime"),
@@ -43,6 +61,14 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 
 	private static final float EASTERN_CHIME_X = 11.f;
 	private static final float WESTERN_CHIME_X = 5.f;
+	private static final double ANIMATION_DISTANCE = Double.parseDouble(
+			System.getProperty("aurorasdeco.wind_chime.animation_distance", "32")
+	);
+	private static final double ANIMATION_DISTANCE_SQUARED = ANIMATION_DISTANCE * ANIMATION_DISTANCE;
+	/**
+	 * The amount of floats per captured vertex: position, texture coordinates and normal.
+	 */
+	private static final int VERTEX_STRIDE = 8;
 
 	private static final List<ChimeData> CHIMES = List.of(
 			new ChimeData(0, WESTERN_CHIME_X, 10, 10),
@@ -53,14 +79,24 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			new ChimeData(5, 8, 11, 7)
 	);
 
-	private final ModelPart root;
-	private final List<ModelPart> chimes = new ArrayList<>();
+	private final BlockEntityRenderDispatcher dispatcher;
+	/**
+	 * The captured vertices of each chime, relative to the chime pivot.
+	 */
+	private final float[][] chimeVertices = new float[CHIMES.size()][];
+	private final Matrix4f transform = new Matrix4f();
+	private final Matrix3f normalTransform = new Matrix3f();
+	private final Vector3f position = new Vector3f();
+	private final Vector3f normal = new Vector3f();
 
 	public WindChimeBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {
-		this.root = ctx.getLayerModelPart(WIND_CHIME_MODEL_LAYER);
+		this.dispatcher = ctx.getRenderDispatcher();
+		var root = ctx.getLayerModelPart(WIND_CHIME_MODEL_LAYER);
 
-		for (int i = 0; i < 6; i++) {
-			chimes.add(this.root.getChild("chime" + (i + 1) + "_body"));
+		for (var chime : CHIMES) {
+			var capture = new VertexCapture(chime.x() / 16.f, ChimeData.PIVOT_Y / 16.f, chime.z() / 16.f);
+			root.getChild("chime" + (chime.index() + 1) + "_body").render(new MatrixStack(), capture, 0, 0);
+			this.chimeVertices[chime.index()] = capture.vertices.toFloatArray();
 		}
 	}
 
@@ -79,7 +115,7 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 		var chimeBody = root.addChild("chime" + (chime.index() + 1) + "_body", ModelPartBuilder.create()
 						.uv(0, 0)
 						.cuboid(-1.f, -(2.f + chime.size()), -1.f, 2.f, chime.size(), 2.f),
-				ModelTransform.pivot(chime.x(), 12.f, chime.z()));
+				ModelTransform.pivot(chime.x(), ChimeData.PIVOT_Y, chime.z()));
 		addString(chimeBody);
 	}
 
@@ -93,17 +129,51 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 	@Override
 	public void render(WindChimeBlockEntity entity, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
-		this.chimes.forEach(model -> {
-			model.pitch = entity.getPitch(tickDelta);
-			model.roll = entity.getRoll(tickDelta);
-		});
-		CHIMES.forEach(chime -> chime.apply(this, entity.getPitch(tickDelta), entity.getRoll(tickDelta)));
-
-		this.root.render(matrices, WIND_CHIME_TEXTURE.getVertexConsumer(vertexConsumers, RenderLayer::getEntitySolid),
-				light, overlay);
+		float pitch = 0.f;
+		float roll = 0.f;
+
+		var pos = entity.getPos();
+		if (this.dispatcher.camera.getPos().squaredDistanceTo(pos.getX() + .5, pos.getY() + .5, pos.getZ() + .5)
+				< ANIMATION_DISTANCE_SQUARED) {
+			pitch = entity.getPitch(tickDelta);
+			roll = entity.getRoll(tickDelta);
+		}
+
+		var consumer = WIND_CHIME_TEXTURE.getVertexConsumer(vertexConsumers, RenderLayer::getEntitySolid);
+		var entry = matrices.peek();
+
+		for (int i = 0; i < CHIMES.size(); i++) {
+			var chime = CHIMES.get(i);
+			float chimePitch = chime.adjustPitch(pitch);
+			float chimeRoll = chime.adjustRoll(roll);
+
+			this.transform.set(entry.getModel()).translate(chime.x() / 16.f, ChimeData.PIVOT_Y / 16.f, chime.z() / 16.f);
+			this.normalTransform.set(entry.getNormal());
+			if (chimePitch != 0.f || chimeRoll != 0.f) {
+				this.transform.rotateZYX(chimeRoll, 0.f, chimePitch);
+				this.normalTransform.rotateZYX(chimeRoll, 0.f, chimePitch);
+			}
+
+			this.renderChime(this.chimeVertices[i], consumer, light, overlay);
+		}
+	}
+
+	private void renderChime(float[] vertices, VertexConsumer consumer, int light, int overlay) {
+		for (int i = 0; i < vertices.length; i += VERTEX_STRIDE) {
+			this.transform.transformPosition(vertices[i], vertices[i + 1], vertices[i + 2], this.position);
+			this.normalTransform.transform(vertices[i + 5], vertices[i + 6], vertices[i + 7], this.normal);
+
+			consumer.vertex(this.position.x(), this.position.y(), this.position.z(),
+					1.f, 1.f, 1.f, 1.f,
+					vertices[i + 3], vertices[i + 4],
+					overlay, light,
+					this.normal.x(), this.normal.y(), this.normal.z());
+		}
 	}
 
 	record ChimeData(int index, float x, float z, float size) {
+		static final float PIVOT_Y = 12.f;
+
 		float getDistanceX() {
 			return 8 - this.x();
 		}
@@ -112,15 +182,15 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			return 8 - this.z();
 		}
 
-		void apply(WindChimeBlockEntityRenderer renderer, float pitch, float roll) {
-			var model = renderer.chimes.get(this.index());
-
+		float adjustPitch(float pitch) {
 			float distanceZ = this.getDistanceZ();
 			if (distanceZ < 0 && pitch > 0 || distanceZ > 0 && pitch < 0) {
 				pitch -= (pitch * pitch * distanceZ / 8.f) / pitch;
 			}
-			model.pitch = pitch;
+			return pitch;
+		}
 
+		float adjustRoll(float roll) {
 			float distanceX = this.getDistanceX();
 
 			if (distanceX == 0) {
@@ -134,7 +204,70 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			if (distanceX < 0 && roll < 0 || distanceX > 0 && roll > 0) {
 				roll += (roll * roll * distanceX / 8.f) / roll;
 			}
-			model.roll = roll;
+			return roll;
 		}
 	}
+
+	/**
+	 * Captures the vertices of a model part rendered at rest, relative to its pivot.
+	 */
+	private static final class VertexCapture implements VertexConsumer {
+		private final FloatList vertices = new FloatArrayList();
+		private final float pivotX;
+		private final float pivotY;
+		private final float pivotZ;
+
+		private VertexCapture(float pivotX, float pivotY, float pivotZ) {
+			this.pivotX = pivotX;
+			this.pivotY = pivotY;
+			this.pivotZ = pivotZ;
+		}
+
+		@Override
+		public VertexConsumer vertex(double x, double y, double z) {
+			this.vertices.add((float) x - this.pivotX);
+			this.vertices.add((float) y - this.pivotY);
+			this.vertices.add((float) z - this.pivotZ);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer texture(float u, float v) {
+			this.vertices.add(u);
+			this.vertices.add(v);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlay(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer light(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			this.vertices.add(x);
+			this.vertices.add(y);
+			this.vertices.add(z);
+			return this;
+		}
+
+		@Override
+		public void next() {}
+
+		@Override
+		public void fixedColor(int red, int green, int blue, int alpha) {}
+
+		@Override
+		public void unfixColor() {}
+	}
 }
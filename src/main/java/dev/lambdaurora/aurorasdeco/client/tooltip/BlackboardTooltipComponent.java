@@ -45,7 +45,6 @@ public class BlackboardTooltipComponent implements TooltipComponent {
 	private static final Identifier GLOW_TEXTURE = AurorasDeco.id("textures/gui/glowing_sprite.png");
 
 	private final MinecraftClient client = MinecraftClient.getInstance();
-	private final BlackboardTexture texture;
 	private final RenderLayer background;
 	private final Blackboard blackboard;
 	private final boolean locked;
@@ -54,7 +53,6 @@ public class BlackboardTooltipComponent implements TooltipComponent {
 		this.background = RenderLayer.getText(AurorasDeco.id("textures/block/blackboard/" + background + ".png"));
 		this.blackboard = blackboard;
 		this.locked = locked;
-		this.texture = BlackboardTexture.fromBlackboard(blackboard);
 	}
 
 	@Override
@@ -79,7 +77,8 @@ public class BlackboardTooltipComponent implements TooltipComponent {
 		this.quad(this.background, 0.f, 0.f, 1.f, 1.f, model, vertexConsumers, LightmapTextureManager.MAX_LIGHT_COORDINATE);
 
 		matrices.translate(0, 0, 1);
-		this.texture.render(model, vertexConsumers, LightmapTextureManager.MAX_LIGHT_COORDINATE, false);
+		// Looked up at draw time, a texture held across frames could have been evicted and reused by another board.
+		BlackboardTexture.fromBlackboard(this.blackboard).render(model, vertexConsumers, LightmapTextureManager.MAX_LIGHT_COORDINATE, false);
 
 		if (this.blackboard.isLit()) {
 			matrices.push();
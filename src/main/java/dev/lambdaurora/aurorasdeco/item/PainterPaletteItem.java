@@ -17,10 +17,12 @@
 
 package dev.lambdaurora.aurorasdeco.item;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardDrawModifier;
-import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
+import dev.lambdaurora.aurorasdeco.client.PainterPaletteScrollBatcher;
 import dev.lambdaurora.aurorasdeco.screen.NestedScreenHandler;
 import dev.lambdaurora.aurorasdeco.screen.PainterPaletteScreenHandler;
 import dev.lambdaurora.aurorasdeco.tooltip.PainterPaletteTooltipData;
@@ -44,8 +46,6 @@ import net.minecraft.util.Hand;
 import net.minecraft.util.TypedActionResult;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
-import org.quiltmc.qsl.networking.api.PacketByteBufs;
-import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
 
 import java.util.Optional;
 
@@ -57,23 +57,59 @@ import java.util.Optional;
  * @since 1.0.0-beta.6
  */
 public class PainterPaletteItem extends Item {
+	/**
+	 * The maximum amount of scroll steps applied at once, which is a full cycle through the colors.
+	 */
+	public static final int MAX_SCROLL_STEPS = 27;
 	private static final int DEFAULT_BACKGROUND_COLOR = 0xff967441;
+	/**
+	 * The decoded palette inventories, keyed by the identity of their NBT.
+	 * <p>
+	 * Every mutation of a palette writes a new NBT compound to the stack, which invalidates the entry.
+	 */
+	private static final Cache<NbtCompound, PainterPaletteInventory> DECODED_INVENTORIES = CacheBuilder.newBuilder()
+			.weakKeys()
+			.maximumSize(64)
+			.build();
+	private static final PainterPaletteInventory EMPTY_INVENTORY = new PainterPaletteInventory();
 
 	public PainterPaletteItem(Settings settings) {
 		super(settings);
 	}
 
+	/**
+	 * Gets the decoded inventory of the given palette for read-only use.
+	 * <p>
+	 * The returned inventory is shared and must not be modified,
+	 * use {@link PainterPaletteInventory#fromNbt(NbtCompound)} to get a mutable inventory.
+	 *
+	 * @param paletteStack the palette stack
+	 * @return the decoded inventory
+	 */
+	public static PainterPaletteInventory getDecodedInventory(ItemStack paletteStack) {
+		var nbt = paletteStack.getSubNbt("inventory");
+		if (nbt == null) return EMPTY_INVENTORY;
+
+		var inventory = DECODED_INVENTORIES.getIfPresent(nbt);
+		if (inventory == null) {
+			inventory = PainterPaletteInventory.fromNbt(nbt);
+			DECODED_INVENTORIES.put(nbt, inventory);
+		}
+
+		return inventory;
+	}
+
 	public ItemStack getCurrentColorAsItem(ItemStack paletteStack) {
-		var inventory = PainterPaletteInventory.fromNbt(paletteStack.getSubNbt("inventory"));
+		var inventory = getDecodedInventory(paletteStack);
 
-		return inventory.getSelectedColor();
+		return inventory.getSelectedColor().copy();
 	}
 
 	public ItemStack getCurrentToolAsItem(ItemStack paletteStack) {
-		var inventory = PainterPaletteInventory.fromNbt(paletteStack.getSubNbt("inventory"));
+		var inventory = getDecodedInventory(paletteStack);
 		if (inventory.selectedTool == -1) return ItemStack.EMPTY;
 
-		return inventory.getSelectedTool();
+		return inventory.getSelectedTool().copy();
 	}
 
 	public static MutableText getSelectedToolMessage(PainterPaletteInventory inventory, FeatureFlagBitSet enabledFeatures) {
@@ -131,7 +167,18 @@ public class PainterPaletteItem extends Item {
 		return super.use(world, user, hand);
 	}
 
-	public boolean onScroll(PlayerEntity player, ItemStack paletteStack, double scrollDelta, boolean toolModifier) {
+	/**
+	 * Scrolls the selected color or tool of the given palette.
+	 * <p>
+	 * On the client the steps are sent to the server at the end of the tick, coalesced with the other scrolls of the tick.
+	 *
+	 * @param player the player scrolling
+	 * @param paletteStack the palette
+	 * @param steps the signed amount of scroll steps, negative steps select the next entries
+	 * @param toolModifier {@code true} to scroll the tools, or {@code false} to scroll the colors
+	 * @return {@code true} if the scroll got consumed by the palette, or {@code false} otherwise
+	 */
+	public boolean onScroll(PlayerEntity player, ItemStack paletteStack, int steps, boolean toolModifier) {
 		var inventory = PainterPaletteInventory.fromNbt(paletteStack.getSubNbt("inventory"));
 
 		if (inventory.isEmpty()) {
@@ -139,27 +186,23 @@ public class PainterPaletteItem extends Item {
 		}
 
 		if (player.getWorld().isClient()) {
-			var buffer = PacketByteBufs.create();
-			buffer.writeDouble(scrollDelta);
-			buffer.writeBoolean(toolModifier);
+			PainterPaletteScrollBatcher.add(steps, toolModifier);
+		} else if (steps != 0) {
+			int count = Math.min(Math.abs(steps), MAX_SCROLL_STEPS);
+			boolean next = steps < 0;
 
-			ClientPlayNetworking.send(AurorasDecoPackets.PAINTER_PALETTE_SCROLL, buffer);
-		} else {
 			if (!toolModifier) {
-				if (scrollDelta < 0) {
-					byte nextColor = inventory.findFirstNextColor();
+				byte oldColor = inventory.selectedColor;
 
-					if (nextColor != -1) {
-						inventory.selectedColor = nextColor;
-					}
-				} else {
-					byte previousColor = inventory.findFirstPreviousColor();
+				for (int i = 0; i < count; i++) {
+					byte color = next ? inventory.findFirstNextColor() : inventory.findFirstPreviousColor();
 
-					if (previousColor != -1) {
-						inventory.selectedColor = previousColor;
-					}
+					if (color == -1) break;
+					inventory.selectedColor = color;
 				}
 
+				if (inventory.selectedColor == oldColor) return true;
+
 				var nbt = inventory.toNbt();
 				if (nbt != null) paletteStack.setSubNbt("inventory", nbt);
 				else paletteStack.removeSubNbt("inventory");
@@ -171,10 +214,13 @@ public class PainterPaletteItem extends Item {
 					player.sendMessage(Text.translatable("aurorasdeco.blackboard.change_modifier", modifier.getName()), true);
 				}
 			} else {
-				byte nextTool = inventory.scrollTool(scrollDelta < 0);
+				byte oldTool = inventory.selectedTool;
 
-				if (inventory.selectedTool != nextTool) {
-					inventory.selectedTool = nextTool;
+				for (int i = 0; i < count; i++) {
+					inventory.selectedTool = inventory.scrollTool(next);
+				}
+
+				if (inventory.selectedTool != oldTool) {
 					var nbt = inventory.toNbt();
 					if (nbt != null) paletteStack.setSubNbt("inventory", nbt);
 					else paletteStack.removeSubNbt("inventory");
@@ -194,7 +240,7 @@ public class PainterPaletteItem extends Item {
 	}
 
 	public int getColor(ItemStack paletteStack, int tintIndex) {
-		var inventory = PainterPaletteInventory.fromNbt(paletteStack.getSubNbt("inventory"));
+		var inventory = getDecodedInventory(paletteStack);
 
 		var primaryColor = BlackboardDrawModifier.fromItem(inventory.getSelectedColor());
 		BlackboardDrawModifier nextColor = inventory.getNextColor();
@@ -215,9 +261,8 @@ public class PainterPaletteItem extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		var nbt = stack.getSubNbt("inventory");
-		if (nbt != null) {
-			return Optional.of(new PainterPaletteTooltipData(PainterPaletteInventory.fromNbt(nbt)));
+		if (stack.getSubNbt("inventory") != null) {
+			return Optional.of(new PainterPaletteTooltipData(getDecodedInventory(stack)));
 		}
 		return super.getTooltipData(stack);
 	}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.item;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.quiltmc.qsl.networking.api.ServerPlayConnectionEvents;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enforces a per-player rate budget on the painter's palette scroll packets.
+ * <p>
+ * Each player may burst up to {@value #BURST} packets, and regains {@value #PACKETS_PER_SECOND} packets per second.
+ * Well-behaved clients send at most one packet per tick as scrolls are coalesced.
+ * Packets over budget are dropped on the network thread before reaching the server thread,
+ * and are counted to observe abuse.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PainterPaletteScrollLimiter {
+	public static final int BURST = 10;
+	public static final int PACKETS_PER_SECOND = 20;
+	private static final long NANOS_PER_PACKET = TimeUnit.SECONDS.toNanos(1) / PACKETS_PER_SECOND;
+	private static final Map<UUID, Budget> BUDGETS = new ConcurrentHashMap<>();
+	private static final AtomicLong ACCEPTED = new AtomicLong();
+	private static final AtomicLong DROPPED = new AtomicLong();
+
+	private PainterPaletteScrollLimiter() {
+		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
+	}
+
+	public static void init() {
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> BUDGETS.remove(handler.getPlayer().getUuid()));
+	}
+
+	/**
+	 * Tries to spend a scroll packet from the budget of the given player.
+	 * <p>
+	 * This may be called from the network threads.
+	 *
+	 * @param player the player who sent the packet
+	 * @return {@code true} if the packet is within budget, or {@code false} if it must be dropped
+	 */
+	public static boolean tryAcquire(ServerPlayerEntity player) {
+		var budget = BUDGETS.computeIfAbsent(player.getUuid(), uuid -> new Budget(System.nanoTime()));
+
+		if (budget.tryAcquire(System.nanoTime())) {
+			ACCEPTED.incrementAndGet();
+			return true;
+		}
+
+		DROPPED.incrementAndGet();
+		long dropped = budget.dropped.incrementAndGet();
+		if (dropped == 1 || dropped % 1000 == 0) {
+			AurorasDeco.warn("{} is sending painter's palette scroll packets too quickly, {} packets dropped so far.",
+					player.getEntityName(), dropped);
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@return the amount of scroll packets accepted since the start}
+	 */
+	public static long getAcceptedCount() {
+		return ACCEPTED.get();
+	}
+
+	/**
+	 * {@return the amount of scroll packets dropped since the start}
+	 */
+	public static long getDroppedCount() {
+		return DROPPED.get();
+	}
+
+	/**
+	 * Gets the amount of scroll packets of the given player dropped since they joined.
+	 *
+	 * @param player the player
+	 * @return the amount of dropped packets
+	 */
+	public static long getDroppedCount(ServerPlayerEntity player) {
+		var budget = BUDGETS.get(player.getUuid());
+		return budget == null ? 0 : budget.dropped.get();
+	}
+
+	private static final class Budget {
+		private final AtomicLong dropped = new AtomicLong();
+		/**
+		 * The time at which the budget would be full again, the budget is spent by moving it forward.
+		 */
+		private long fullAt;
+
+		private Budget(long now) {
+			this.fullAt = now;
+		}
+
+		private synchronized boolean tryAcquire(long now) {
+			long fullAt = Math.max(this.fullAt, now);
+			long next = fullAt + NANOS_PER_PACKET;
+
+			if (next - now > BURST * NANOS_PER_PACKET) {
+				return false;
+			}
+
+			this.fullAt = next;
+			return true;
+		}
+	}
+}
@@ -17,8 +17,7 @@
 
 package dev.lambdaurora.aurorasdeco.mixin;
 
-import dev.lambdaurora.aurorasdeco.block.AmethystLanternBlock;
-import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import dev.lambdaurora.aurorasdeco.world.AmethystLanternIndex;
 import net.minecraft.entity.SpawnGroup;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.structure.StructureManager;
@@ -26,7 +25,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.SpawnHelper;
 import net.minecraft.world.biome.SpawnSettings;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
-import net.minecraft.world.poi.PointOfInterestStorage;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -43,15 +41,7 @@ public class SpawnHelperMixin {
 			ChunkGenerator chunkGenerator, SpawnSettings.SpawnEntry spawnEntry,
 			BlockPos.Mutable pos, double squaredDistance, CallbackInfoReturnable<Boolean> cir) {
 		if (cir.getReturnValueZ()) {
-			if (!group.isPeaceful() && world.getPointOfInterestStorage().getInSquare(
-					poiType -> poiType.isRegistryKey(AurorasDecoRegistry.AMETHYST_LANTERN_POI),
-					pos,
-					AmethystLanternBlock.EFFECT_RADIUS,
-					PointOfInterestStorage.OccupationStatus.ANY
-			).anyMatch(poi -> {
-				int y = poi.getPos().getY();
-				return pos.getY() <= y + AmethystLanternBlock.EFFECT_RADIUS && pos.getY() >= y - AmethystLanternBlock.EFFECT_RADIUS;
-			})) {
+			if (!group.isPeaceful() && AmethystLanternIndex.isProtected(world, pos)) {
 				cir.setReturnValue(false);
 			}
 		}
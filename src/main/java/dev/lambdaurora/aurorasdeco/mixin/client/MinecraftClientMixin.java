@@ -18,6 +18,7 @@
 package dev.lambdaurora.aurorasdeco.mixin.client;
 
 import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.SkyExposureCache;
 import dev.lambdaurora.aurorasdeco.client.Wind;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.world.ClientWorld;
@@ -34,5 +35,6 @@ public class MinecraftClientMixin {
 	private void onSetWorld(ClientWorld world, CallbackInfo ci) {
 		BlackboardBlockEntity.onWorldChange(world);
 		Wind.get().reset();
+		SkyExposureCache.reset();
 	}
 }
@@ -115,6 +115,10 @@ public abstract class ModelLoaderMixin {
 						this.aurorasdeco$visitedModels.add(id);
 						this.putModel(id, new UnbakedForwardingModel(unbakedModel, BakedHangingFlowerPotModel::new));
 						ci.cancel();
+					} else if (modelId.getPath().startsWith("shelf/") || modelId.getPath().equals("book_pile")) {
+						this.aurorasdeco$visitedModels.add(id);
+						this.putModel(id, new UnbakedForwardingModel(unbakedModel, BakedItemsModel::new));
+						ci.cancel();
 					} else if (modelId.getPath().endsWith("board")) {
 						this.aurorasdeco$visitedModels.add(id);
 						this.putModel(id, UnbakedBlackboardModel.of(modelId, unbakedModel,
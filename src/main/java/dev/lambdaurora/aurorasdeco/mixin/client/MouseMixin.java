@@ -46,7 +46,8 @@ public class MouseMixin {
 	private void onScroll(long window, double scrollDeltaX, double scrollDeltaY, CallbackInfo ci, double scrollDelta) {
 		if (this.client.player != null && this.client.player.isSneaking()) {
 			if (this.client.player.getMainHandStack().getItem() instanceof PainterPaletteItem paletteItem) {
-				if (paletteItem.onScroll(this.client.player, this.client.player.getMainHandStack(), scrollDelta, Screen.hasControlDown())) {
+				if (paletteItem.onScroll(this.client.player, this.client.player.getMainHandStack(),
+						scrollDelta < 0 ? -1 : 1, Screen.hasControlDown())) {
 					ci.cancel();
 				}
 			}
@@ -17,14 +17,12 @@
 
 package dev.lambdaurora.aurorasdeco.mixin.entity;
 
-import dev.lambdaurora.aurorasdeco.block.AmethystLanternBlock;
-import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import dev.lambdaurora.aurorasdeco.world.AmethystLanternIndex;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.mob.ZombieEntity;
 import net.minecraft.entity.mob.ZombieVillagerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
-import net.minecraft.world.poi.PointOfInterestStorage;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -39,16 +37,7 @@ public class ZombieVillagerEntityMixin extends ZombieEntity {
 	@Inject(method = "getConversionRate", at = @At("RETURN"), cancellable = true)
 	private void onGetConversionRate(CallbackInfoReturnable<Integer> cir) {
 		if (this.random.nextFloat() < .35f) {
-			int lanterns = (int) ((ServerWorld) this.world).getPointOfInterestStorage().getInSquare(
-					poiType -> poiType.isRegistryKey(AurorasDecoRegistry.AMETHYST_LANTERN_POI),
-					this.getBlockPos(),
-					AmethystLanternBlock.EFFECT_RADIUS,
-					PointOfInterestStorage.OccupationStatus.ANY
-			).filter(poi -> {
-				int y = poi.getPos().getY();
-				int entityY = this.getBlockY();
-				return entityY <= y + AmethystLanternBlock.EFFECT_RADIUS && entityY >= y - AmethystLanternBlock.EFFECT_RADIUS;
-			}).count();
+			int lanterns = AmethystLanternIndex.countInRange((ServerWorld) this.world, this.getBlockPos());
 			if (lanterns > 0)
 				cir.setReturnValue(lanterns + Math.min(cir.getReturnValueI(), 14));
 		}
@@ -20,6 +20,7 @@ package dev.lambdaurora.aurorasdeco.registry;
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import dev.lambdaurora.aurorasdeco.client.screen.SignPostEditScreen;
 import dev.lambdaurora.aurorasdeco.item.PainterPaletteItem;
+import dev.lambdaurora.aurorasdeco.item.PainterPaletteScrollLimiter;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayNetworkHandler;
 import net.minecraft.network.PacketByteBuf;
@@ -48,6 +49,7 @@ public final class AurorasDecoPackets {
 	public static final Identifier SIGN_POST_OPEN_GUI_FAIL = AurorasDeco.id("sign_post/open_gui/fail");
 	public static final Identifier SIGN_POST_SET_TEXT = AurorasDeco.id("sign_post/set_text");
 	public static final Identifier PAINTER_PALETTE_SCROLL = AurorasDeco.id("painter_palette/scroll");
+	public static final Identifier BLACKBOARD_DELTA = AurorasDeco.id("blackboard/delta");
 
 	public static void handleSignPostOpenGuiFailPacket(MinecraftServer server, ServerPlayerEntity player, ServerPlayNetworkHandler handler,
 			PacketByteBuf buf, PacketSender responseSender) {
@@ -88,12 +90,15 @@ public final class AurorasDecoPackets {
 
 	public static void handlePainterPaletteScroll(MinecraftServer server, ServerPlayerEntity player, ServerPlayNetworkHandler handler,
 			PacketByteBuf buf, PacketSender responseSender) {
-		double scrollDelta = buf.readDouble();
+		int steps = buf.readByte();
 		boolean toolModifier = buf.readBoolean();
 
+		if (steps == 0 || !PainterPaletteScrollLimiter.tryAcquire(player))
+			return; // Nothing to do, or over budget.
+
 		server.execute(() -> {
 			if (player.getMainHandStack().getItem() instanceof PainterPaletteItem paletteItem) {
-				paletteItem.onScroll(player, player.getMainHandStack(), scrollDelta, toolModifier);
+				paletteItem.onScroll(player, player.getMainHandStack(), steps, toolModifier);
 			}
 		});
 	}
@@ -120,5 +125,26 @@ public final class AurorasDecoPackets {
 				client.setScreen(new SignPostEditScreen(signPost));
 			});
 		}
+
+		public static void handleBlackboardDeltaPacket(MinecraftClient client, ClientPlayNetworkHandler handler,
+				PacketByteBuf buf, PacketSender responseSender) {
+			var pos = buf.readBlockPos();
+			int count = Math.min(buf.readVarInt(), 256);
+			var indices = new int[count];
+			var colors = new short[count];
+
+			for (int i = 0; i < count; i++) {
+				indices[i] = buf.readUnsignedByte();
+				colors[i] = buf.readShort();
+			}
+
+			client.execute(() -> {
+				var blackboard = AurorasDecoRegistry.BLACKBOARD_BLOCK_ENTITY_TYPE.get(client.world, pos);
+				if (blackboard == null)
+					return; // Blackboard is not here, the next chunk data will have the pixels.
+
+				blackboard.applyPixelDelta(indices, colors, count);
+			});
+		}
 	}
 }
@@ -20,6 +20,7 @@ package dev.lambdaurora.aurorasdeco.registry;
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import dev.lambdaurora.aurorasdeco.mixin.block.AbstractBlockAccessor;
 import dev.lambdaurora.aurorasdeco.util.AuroraUtil;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.minecraft.block.Block;
@@ -43,7 +44,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Represents a wood type.
@@ -57,7 +60,9 @@ public final class WoodType {
 	public static final WoodType BAMBOO;
 
 	private static final List<ModificationCallbackEntry> CALLBACKS = new ArrayList<>();
-	private static final List<WoodType> TYPES;
+	private static final List<WoodType> TYPES = new ArrayList<>();
+	private static final Map<Identifier, WoodType> TYPES_BY_ID = new Object2ObjectOpenHashMap<>();
+	private static final Map<Block, Component> COMPONENTS_BY_BLOCK = new Reference2ObjectOpenHashMap<>();
 	private final Map<ComponentType, Component> components = new Reference2ObjectOpenHashMap<>();
 	private final List<ModificationCallbackEntry> toTrigger = new ArrayList<>();
 	private final Identifier id;
@@ -75,23 +80,27 @@ public final class WoodType {
 	}
 
 	static {
-		TYPES = new ArrayList<>(List.of(
-				OAK = new WoodType(new Identifier("oak")),
-				new WoodType(new Identifier("spruce")),
-				new WoodType(new Identifier("birch")),
-				new WoodType(new Identifier("jungle")),
-				new WoodType(new Identifier("acacia")),
-				new WoodType(new Identifier("dark_oak")),
-				new WoodType(new Identifier("mangrove")),
-				new WoodType(new Identifier("cherry")),
-				new WoodType(AurorasDeco.id("azalea")),
-				new WoodType(AurorasDeco.id("flowering_azalea")),
-				new WoodType(AurorasDeco.id("jacaranda")),
-				BAMBOO = new WoodType(new Identifier("bamboo")),
-				new WoodType(new Identifier("mushroom")),
-				new WoodType(new Identifier("crimson")),
-				new WoodType(new Identifier("warped"))
-		));
+		OAK = register(new WoodType(new Identifier("oak")));
+		register(new WoodType(new Identifier("spruce")));
+		register(new WoodType(new Identifier("birch")));
+		register(new WoodType(new Identifier("jungle")));
+		register(new WoodType(new Identifier("acacia")));
+		register(new WoodType(new Identifier("dark_oak")));
+		register(new WoodType(new Identifier("mangrove")));
+		register(new WoodType(new Identifier("cherry")));
+		register(new WoodType(AurorasDeco.id("azalea")));
+		register(new WoodType(AurorasDeco.id("flowering_azalea")));
+		register(new WoodType(AurorasDeco.id("jacaranda")));
+		BAMBOO = register(new WoodType(new Identifier("bamboo")));
+		register(new WoodType(new Identifier("mushroom")));
+		register(new WoodType(new Identifier("crimson")));
+		register(new WoodType(new Identifier("warped")));
+	}
+
+	private static WoodType register(WoodType woodType) {
+		TYPES.add(woodType);
+		TYPES_BY_ID.put(woodType.getId(), woodType);
+		return woodType;
 	}
 
 	/**
@@ -183,7 +192,9 @@ public final class WoodType {
 	}
 
 	private void addComponent(ComponentType type, Component component) {
-		this.components.put(type, component);
+		var previous = this.components.put(type, component);
+		if (previous != null) COMPONENTS_BY_BLOCK.remove(previous.block());
+		COMPONENTS_BY_BLOCK.put(component.block(), component);
 
 		this.onWoodTypeModified();
 	}
@@ -229,6 +240,7 @@ public final class WoodType {
 
 	public static void onBlockRegister(Identifier id, Block block) {
 		if (id.getNamespace().equals("mossywood")) return; // Mossywood is too much of a pain to support.
+		if (!ComponentType.mayMatch(id.getPath())) return;
 
 		for (var componentType : ComponentType.types()) {
 			var woodName = componentType.filter(id, block);
@@ -241,12 +253,10 @@ public final class WoodType {
 				woodId = new Identifier(id.getNamespace(), woodName);
 			}
 
-			var woodType = TYPES.stream().filter(type -> type.getId().equals(woodId)).findFirst()
-					.orElseGet(() -> {
-						var newWoodType = new WoodType(woodId);
-						TYPES.add(newWoodType);
-						return newWoodType;
-					});
+			var woodType = TYPES_BY_ID.get(woodId);
+			if (woodType == null) {
+				woodType = register(new WoodType(woodId));
+			}
 			woodType.addComponent(componentType, new Component(woodType, block));
 			break;
 		}
@@ -259,12 +269,28 @@ public final class WoodType {
 	 * @return the wood type if it exists, or {@code null} otherwise
 	 */
 	public static @Nullable WoodType fromId(Identifier id) {
-		for (var type : TYPES) {
-			if (type.getId().equals(id))
-				return type;
-		}
+		return TYPES_BY_ID.get(id);
+	}
 
-		return null;
+	/**
+	 * Returns the wood type component of the specified block.
+	 *
+	 * @param block the block
+	 * @return the component if the block is a component of a wood type, or {@code null} otherwise
+	 */
+	public static @Nullable Component getComponentOf(Block block) {
+		return COMPONENTS_BY_BLOCK.get(block);
+	}
+
+	/**
+	 * Returns the wood type the specified block is a component of.
+	 *
+	 * @param block the block
+	 * @return the wood type if the block is a component of a wood type, or {@code null} otherwise
+	 */
+	public static @Nullable WoodType fromBlock(Block block) {
+		var component = COMPONENTS_BY_BLOCK.get(block);
+		return component == null ? null : component.woodType();
 	}
 
 	public static void forEach(Consumer<WoodType> consumer) {
@@ -353,7 +379,7 @@ public final class WoodType {
 
 	// This can't be good
 	public enum ComponentType {
-		PLANKS((id, block) -> {
+		PLANKS(List.of("planks"), (id, block) -> {
 			if (!id.getPath().endsWith("_planks")) return null;
 			return id.getPath().substring(0, id.getPath().length() - "_planks".length());
 		}, (resourceManager, component) -> {
@@ -368,7 +394,8 @@ public final class WoodType {
 
 			return texture;
 		}),
-		LOG((id, block) -> {
+		// The bamboo block is matched as a log.
+		LOG(List.of("log", "stem", "block"), (id, block) -> {
 			if (block == Blocks.BAMBOO_BLOCK) return "bamboo";
 
 			var material = ((AbstractBlockAccessor) block).getMaterial();
@@ -426,9 +453,9 @@ public final class WoodType {
 			}
 			return texture;
 		}),
-		SLAB(simpleWoodFilter("slab")),
-		STAIRS(simpleWoodFilter("stairs")),
-		LEAVES((id, block) -> {
+		SLAB("slab"),
+		STAIRS("stairs"),
+		LEAVES(List.of("leaves", "wart_block"), (id, block) -> {
 			String leavesType;
 			if (AuroraUtil.idEqual(id, Identifier.DEFAULT_NAMESPACE, "nether_wart_block"))
 				return "crimson"; // Thanks Minecraft.
@@ -455,30 +482,45 @@ public final class WoodType {
 
 			return texture;
 		}),
-		PRESSURE_PLATE(simpleWoodFilter("pressure_plate")),
-		TRAPDOOR(simpleWoodFilter("trapdoor")),
-		DOOR(simpleWoodFilter("door")),
-		FENCE(simpleWoodFilter("fence")),
-		FENCE_GATE(simpleWoodFilter("fence_gate")),
-		LADDER(simpleWoodFilter("ladder"));
+		PRESSURE_PLATE("pressure_plate"),
+		TRAPDOOR("trapdoor"),
+		DOOR("door"),
+		FENCE("fence"),
+		FENCE_GATE("fence_gate"),
+		LADDER("ladder");
 
 		private static final List<ComponentType> COMPONENT_TYPES = List.of(values());
+		/**
+		 * The last words of the suffixes of every component type, used to quickly reject blocks.
+		 */
+		private static final Set<String> LAST_WORDS = COMPONENT_TYPES.stream()
+				.flatMap(type -> type.suffixes.stream())
+				.map(suffix -> suffix.substring(suffix.lastIndexOf('_') + 1))
+				.collect(Collectors.toUnmodifiableSet());
+		private final List<String> suffixes;
 		private final Filter filter;
 		private final TextureProvider textureProvider;
 		private final TextureProvider topTextureProvider;
 
-		ComponentType(Filter filter, TextureProvider textureProvider, TextureProvider topTextureProvider) {
+		/**
+		 * @param suffixes the suffixes of the block paths the filter may match, without the leading underscore
+		 * @param filter the filter
+		 * @param textureProvider the texture provider
+		 * @param topTextureProvider the top texture provider
+		 */
+		ComponentType(List<String> suffixes, Filter filter, TextureProvider textureProvider, TextureProvider topTextureProvider) {
+			this.suffixes = suffixes;
 			this.filter = filter;
 			this.textureProvider = textureProvider;
 			this.topTextureProvider = topTextureProvider;
 		}
 
-		ComponentType(Filter filter, TextureProvider textureProvider) {
-			this(filter, textureProvider, textureProvider);
+		ComponentType(List<String> suffixes, Filter filter, TextureProvider textureProvider) {
+			this(suffixes, filter, textureProvider, textureProvider);
 		}
 
-		ComponentType(Filter filter) {
-			this(filter, BASIC_TEXTURE_PROVIDER);
+		ComponentType(String suffix) {
+			this(List.of(suffix), simpleWoodFilter(suffix), BASIC_TEXTURE_PROVIDER);
 		}
 
 		public @Nullable String filter(Identifier id, Block block) {
@@ -496,6 +538,21 @@ public final class WoodType {
 		public static List<ComponentType> types() {
 			return COMPONENT_TYPES;
 		}
+
+		/**
+		 * Returns whether the given block path may be matched by a component filter, based on its last word.
+		 * <p>
+		 * Most registered blocks aren't wood components, this rejects them without running every filter.
+		 *
+		 * @param path the block path
+		 * @return {@code true} if the path may be a component, or {@code false} otherwise
+		 */
+		public static boolean mayMatch(String path) {
+			int separator = path.lastIndexOf('_');
+			if (separator == -1) return false;
+
+			return LAST_WORDS.contains(path.substring(separator + 1));
+		}
 	}
 
 	public interface Filter {
@@ -37,12 +37,16 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public class AurorasDecoPack extends InMemoryResourcePack {
 	private static final Logger LOGGER = LogUtils.getLogger();
 
 	private final ResourceType type;
+	private final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
 
 	private boolean hasRegisteredOneTimeResources = false;
 
@@ -108,7 +112,8 @@ public class AurorasDecoPack extends InMemoryResourcePack {
 	}
 
 	public void putJsonText(ResourceType type, Identifier id, String json) {
-		this.putText(type, new Identifier(id.getNamespace(), id.getPath() + ".json"), json);
+		var path = new Identifier(id.getNamespace(), id.getPath() + ".json");
+		this.defer(pack -> pack.putText(type, path, json));
 	}
 
 	public void putJson(ResourceType type, Identifier id, JsonObject json) {
@@ -117,14 +122,15 @@ public class AurorasDecoPack extends InMemoryResourcePack {
 		var stringWriter = new StringWriter();
 		var jsonWriter = new JsonWriter(stringWriter);
 		jsonWriter.setLenient(true);
-		jsonWriter.setIndent("  ");
 		try {
 			Streams.write(json, jsonWriter);
 		} catch (IOException e) {
 			LOGGER.error("Failed to write JSON at {}.", id, e);
 		}
 
-		this.putText(type, id, stringWriter.toString());
+		var path = id;
+		var text = stringWriter.toString();
+		this.defer(pack -> pack.putText(type, path, text));
 	}
 
 	public void putImage(Identifier id, NativeImage image) {
@@ -136,6 +142,65 @@ public class AurorasDecoPack extends InMemoryResourcePack {
 		}
 	}
 
+	/**
+	 * Runs the given action on this pack, or defers it to the merge of the batch the current thread is generating.
+	 *
+	 * @param action the action to run on this pack
+	 */
+	public void defer(Consumer<AurorasDecoPack> action) {
+		var batch = this.currentBatch.get();
+
+		if (batch != null) batch.actions.add(action);
+		else action.accept(this);
+	}
+
+	/**
+	 * Runs the given generator on the current thread, and collects everything it writes into this pack into a batch
+	 * instead of writing it right away.
+	 * <p>
+	 * The batch is written into this pack with {@link #merge(Batch)}, which lets generators run concurrently
+	 * while the pack is still written in a deterministic order.
+	 *
+	 * @param generator the generator
+	 * @return the collected batch
+	 */
+	public Batch collect(Runnable generator) {
+		var batch = new Batch();
+		var previous = this.currentBatch.get();
+
+		this.currentBatch.set(batch);
+		try {
+			generator.run();
+		} finally {
+			if (previous != null) this.currentBatch.set(previous);
+			else this.currentBatch.remove();
+		}
+
+		return batch;
+	}
+
+	/**
+	 * Writes the given batch into this pack, in the order the batch was collected.
+	 *
+	 * @param batch the batch to write
+	 */
+	public void merge(Batch batch) {
+		batch.actions.forEach(this::defer);
+	}
+
+	/**
+	 * Represents the writes of a generator collected by {@link #collect(Runnable)}.
+	 */
+	public static final class Batch {
+		private final List<Consumer<AurorasDecoPack>> actions = new ArrayList<>();
+
+		private Batch() {}
+
+		public int size() {
+			return this.actions.size();
+		}
+	}
+
 	@Override
 	public String getName() {
 		return "Aurora's Decorations Virtual Pack";
@@ -17,6 +17,7 @@
 
 package dev.lambdaurora.aurorasdeco.resource;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.mojang.blaze3d.texture.NativeImage;
@@ -35,6 +36,8 @@ import dev.lambdaurora.aurorasdeco.registry.WoodType;
 import dev.lambdaurora.aurorasdeco.resource.datagen.*;
 import dev.lambdaurora.aurorasdeco.util.AuroraUtil;
 import dev.lambdaurora.aurorasdeco.util.ColorUtil;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockWithEntity;
 import net.minecraft.block.Blocks;
@@ -51,6 +54,7 @@ import net.minecraft.registry.tag.TagKey;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.resource.ResourceType;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.QuiltLoader;
 import org.quiltmc.qsl.recipe.api.builder.VanillaRecipeBuilders;
 import org.quiltmc.qsl.recipe.api.serializer.QuiltRecipeSerializer;
@@ -59,7 +63,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 
 import static dev.lambdaurora.aurorasdeco.AurorasDeco.id;
@@ -91,6 +100,14 @@ public final class Datagen {
 	private static final Identifier BIG_FLOWER_POT_WITH_MYCELIUM_MODEL = id("block/big_flower_pot/mycelium");
 	private static final Identifier LOG_STUMP_LEAF_TEXTURE = id("block/log_stump_leaf");
 
+	/**
+	 * The workers of the client data generation, each wood type and each family of blocks is generated as its own task.
+	 */
+	private static final ExecutorService CLIENT_DATA_EXECUTOR = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 8)),
+			new ThreadFactoryBuilder().setNameFormat("AurorasDeco Datagen #%d").setDaemon(true).build()
+	);
+
 	static final Identifier SHELF_BETTERGRASS_DATA = id("bettergrass/data/shelf");
 
 	private static final Pattern PLANKS_TO_BASE_ID = Pattern.compile("[_/]planks$");
@@ -516,367 +533,413 @@ public final class Datagen {
 	}
 
 	public static void generateClientData(ResourceManager resourceManager) {
-		generateBenchesClientData(resourceManager);
-		generateDirectionalSignsClientData(resourceManager);
-		generateShelvesClientData(resourceManager);
-		generateSmallLogPilesClientData(resourceManager);
-		generateStumpsClientData(resourceManager);
-
-		PottedPlantType.stream().filter(type -> !type.isEmpty() && type.getPot().hasDynamicModel())
-				.forEach(type -> {
-					var id = Registries.BLOCK.getId(type.getPot());
-					var builder = blockStateBuilder(type.getPot());
-					if (id.getPath().endsWith("mushroom")) builder.addToVariant("", BIG_FLOWER_POT_WITH_MYCELIUM_MODEL);
-					else builder.addToVariant("", BIG_FLOWER_POT_MODEL);
-					builder.register();
-
-					Datagen.registerBetterGrassLayer(id, BigFlowerPotBlock.POT_BETTERGRASS_DATA);
-				});
-		HangingFlowerPotBlock.stream().forEach(block -> {
-			if (block == AurorasDecoRegistry.HANGING_FLOWER_POT_BLOCK) return;
-
-			var id = Registries.BLOCK.getId(block);
-			blockStateBuilder(block)
-					.addToVariant("", HangingFlowerPotBlock.HANGING_FLOWER_POT_ATTACHMENT_MODEL)
-					.register();
-			Datagen.registerBetterGrassLayer(id, HangingFlowerPotBlock.BETTER_GRASS_DATA);
-		});
-
-		SleepingBagBlock.stream().forEach(sleepingBag -> {
-			var color = sleepingBag.getColor();
-			var builder = blockStateBuilder(sleepingBag);
-
-			var footSideTexture = id("block/sleeping_bag/" + color.getName() + "/foot_side");
-			var footTopTexture = id("block/sleeping_bag/" + color.getName() + "/foot_top");
-			var footModel = modelBuilder(TEMPLATE_SLEEPING_BAG_FOOT_MODEL)
-					.texture("side", footSideTexture)
-					.texture("top", footTopTexture)
-					.register(id("block/sleeping_bag/" + color.getName() + "/foot"));
-
-			var headBottomTexture = id("block/sleeping_bag/" + color.getName() + "/head_bottom");
-			var headSideTexture = id("block/sleeping_bag/" + color.getName() + "/head_side");
-			var headTopTexture = id("block/sleeping_bag/" + color.getName() + "/head_top");
-			var headModel = modelBuilder(TEMPLATE_SLEEPING_BAG_HEAD_MODEL)
-					.texture("bottom", headBottomTexture)
-					.texture("side", headSideTexture)
-					.texture("top", headTopTexture)
-					.register(id("block/sleeping_bag/" + color.getName() + "/head"));
-
-			for (var direction : AuroraUtil.DIRECTIONS) {
-				if (direction.getAxis().isHorizontal()) {
-					builder.addToVariant("part=foot,facing=" + direction.getName(),
-							footModel,
-							((int) direction.asRotation() + 180) % 360);
-					builder.addToVariant("part=head,facing=" + direction.getName(),
-							headModel,
-							((int) direction.asRotation() + 180) % 360);
-				}
+		long start = System.nanoTime();
+		final NativeImage defaultSignPostTexture = readDefaultSignPostTexture(resourceManager);
+		final IntList defaultSignPostPalette = defaultSignPostTexture == null ? null : ColorUtil.getPaletteFromImage(defaultSignPostTexture);
+		var tasks = new ArrayList<ClientDataTask>();
+
+		BenchBlock.streamBenches().forEach(block -> tasks.add(new ClientDataTask("benches",
+				() -> generateBenchClientData(resourceManager, block))));
+		SignPostItem.stream().forEach(item -> tasks.add(new ClientDataTask("sign_posts",
+				() -> generateSignPostClientData(resourceManager, item, defaultSignPostTexture, defaultSignPostPalette))));
+		ShelfBlock.streamShelves().forEach(block -> tasks.add(new ClientDataTask("shelves",
+				() -> generateShelfClientData(resourceManager, block))));
+		SmallLogPileBlock.stream().forEach(block -> tasks.add(new ClientDataTask("small_log_piles",
+				() -> generateSmallLogPileClientData(resourceManager, block))));
+		StumpBlock.streamLogStumps().forEach(block -> tasks.add(new ClientDataTask("stumps",
+				() -> generateStumpClientData(resourceManager, block))));
+
+		var pottedPlants = PottedPlantType.stream().filter(type -> !type.isEmpty() && type.getPot().hasDynamicModel()).toList();
+		tasks.add(new ClientDataTask("potted_plants", () -> pottedPlants.forEach(Datagen::generatePottedPlantClientData)));
+		var hangingFlowerPots = HangingFlowerPotBlock.stream()
+				.filter(block -> block != AurorasDecoRegistry.HANGING_FLOWER_POT_BLOCK)
+				.toList();
+		tasks.add(new ClientDataTask("hanging_flower_pots", () -> hangingFlowerPots.forEach(Datagen::generateHangingFlowerPotClientData)));
+		var sleepingBags = SleepingBagBlock.stream().toList();
+		tasks.add(new ClientDataTask("sleeping_bags", () -> sleepingBags.forEach(Datagen::generateSleepingBagClientData)));
+		var wallLanterns = new ArrayList<WallLanternBlock<?>>();
+		LanternRegistry.forEach((lanternId, wallLantern) -> wallLanterns.add(wallLantern));
+		tasks.add(new ClientDataTask("wall_lanterns", () -> wallLanterns.forEach(Datagen::generateWallLanternClientData)));
+
+		var futures = tasks.stream()
+				.map(task -> CompletableFuture.supplyAsync(task::run, CLIENT_DATA_EXECUTOR))
+				.toList();
+
+		// Every task has to be done before the shared sign post texture can be closed, even if one of them failed.
+		var results = new ArrayList<ClientDataResult>(futures.size());
+		RuntimeException failure = null;
+		for (var future : futures) {
+			try {
+				results.add(future.join());
+			} catch (CompletionException e) {
+				if (failure == null) failure = e;
 			}
+		}
+
+		if (defaultSignPostTexture != null) defaultSignPostTexture.close();
+		if (failure != null) throw failure;
 
-			builder.register();
+		var timings = new Object2LongLinkedOpenHashMap<String>();
+		for (var result : results) {
+			AurorasDecoClient.RESOURCE_PACK.merge(result.batch());
+			timings.addTo(result.family(), result.time());
+		}
 
-			modelBuilder(TEMPLATE_SLEEPING_BAG_ITEM_MODEL)
-					.texture("foot_side", footSideTexture)
-					.texture("foot_top", footTopTexture)
-					.texture("head_bottom", headBottomTexture)
-					.texture("head_side", headSideTexture)
-					.texture("head_top", headTopTexture)
-					.register(id("item/" + Registries.ITEM.getId(sleepingBag.asItem()).getPath()));
+		var timingsMessage = new StringBuilder();
+		timings.object2LongEntrySet().forEach(entry -> {
+			if (!timingsMessage.isEmpty()) timingsMessage.append(", ");
+			timingsMessage.append(entry.getKey()).append(": ").append(entry.getLongValue() / 1_000_000L).append(" ms");
 		});
+		LOGGER.info("Generated client resources in {} ms using {} tasks ({}).",
+				(System.nanoTime() - start) / 1_000_000L, tasks.size(), timingsMessage);
+	}
 
-		LanternRegistry.forEach((lanternId, wallLantern) -> {
-			var builder = blockStateBuilder(wallLantern);
-			for (var direction : AuroraUtil.DIRECTIONS) {
-				if (direction.getAxis().isHorizontal()) {
-					int rotation = (int) (direction.getOpposite().asRotation() + 90) % 360;
-					builder.addToVariant("facing=" + direction.getName() + ",extension=none",
-							WALL_LANTERN_ATTACHMENT, rotation);
-					builder.addToVariant("facing=" + direction.getName() + ",extension=wall",
-							WALL_LANTERN_ATTACHMENT_EXTENDED1, rotation);
-					builder.addToVariant("facing=" + direction.getName() + ",extension=fence",
-							WALL_LANTERN_ATTACHMENT_EXTENDED2, rotation);
-				}
-			}
-			builder.register();
+	private static void generatePottedPlantClientData(PottedPlantType type) {
+		var id = Registries.BLOCK.getId(type.getPot());
+		var builder = blockStateBuilder(type.getPot());
+		if (id.getPath().endsWith("mushroom")) builder.addToVariant("", BIG_FLOWER_POT_WITH_MYCELIUM_MODEL);
+		else builder.addToVariant("", BIG_FLOWER_POT_MODEL);
+		builder.register();
 
-			registerBetterGrassLayer(wallLantern, WallLanternBlock.LANTERN_BETTERGRASS_DATA);
-		});
+		Datagen.registerBetterGrassLayer(id, BigFlowerPotBlock.POT_BETTERGRASS_DATA);
 	}
 
-	private static void generateBenchesClientData(ResourceManager resourceManager) {
-		BenchBlock.streamBenches().forEach(block -> {
-			var builder = multipartBlockStateBuilder(block);
-			var restBuilder = new MultipartBlockStateBuilder(AurorasDeco.id(Registries.BLOCK.getId(block).getPath() + "_rest"));
-
-			var pathName = block.getWoodType().getPathName();
-			var blockPathName = "block/bench/" + pathName;
-			var planksTexture = block.getWoodType().getPlanksTexture(resourceManager);
-			var logSideTexture = block.getWoodType().getLogSideTexture(resourceManager);
-			var seatModel = modelBuilder(BenchBlock.BENCH_SEAT_MODEL)
-					.texture("planks", planksTexture)
-					.register(block);
-			var restPlankModel = modelBuilder(BenchBlock.BENCH_REST_PLANK_MODEL)
-					.texture("planks", planksTexture)
-					.register(AurorasDeco.id(blockPathName + "_rest_plank"));
-			var restLeftModel = modelBuilder(BenchBlock.BENCH_REST_LEFT_MODEL)
-					.texture("log", logSideTexture)
-					.register(AurorasDeco.id(blockPathName + "_rest_left"));
-			var restRightModel = modelBuilder(BenchBlock.BENCH_REST_RIGHT_MODEL)
-					.texture("log", logSideTexture)
-					.register(AurorasDeco.id(blockPathName + "_rest_right"));
-			var legsModel = modelBuilder(BenchBlock.BENCH_LEGS_MODEL)
-					.texture("log", logSideTexture)
-					.register(AurorasDeco.id(blockPathName + "_legs"));
-
-			var withLeftLegs = BenchBlock.LEFT_LEGS.createValue(true);
-			var withRightLegs = BenchBlock.RIGHT_LEGS.createValue(true);
-			for (var facing : AuroraUtil.DIRECTIONS) {
-				if (facing.getAxis().isVertical()) continue;
-
-				var facingValue = BenchBlock.FACING.createValue(facing);
-
-				var rotation = ((facing.getHorizontal() + 2) & 3) * 90;
-				builder.addWhen(new StateModel(seatModel, rotation), facingValue);
-				builder.addWhen(new StateModel(legsModel, rotation), facingValue, withRightLegs);
-				builder.addWhen(new StateModel(legsModel, (rotation + 180) % 360), facingValue, withLeftLegs);
-				restBuilder.addWhen(new StateModel(restLeftModel, rotation), facingValue, withLeftLegs);
-				restBuilder.addWhen(new StateModel(restRightModel, rotation), facingValue, withRightLegs);
-				restBuilder.addWhen(new StateModel(restPlankModel, rotation), facingValue);
+	private static void generateHangingFlowerPotClientData(HangingFlowerPotBlock block) {
+		var id = Registries.BLOCK.getId(block);
+		blockStateBuilder(block)
+				.addToVariant("", HangingFlowerPotBlock.HANGING_FLOWER_POT_ATTACHMENT_MODEL)
+				.register();
+		Datagen.registerBetterGrassLayer(id, HangingFlowerPotBlock.BETTER_GRASS_DATA);
+	}
+
+	private static void generateSleepingBagClientData(SleepingBagBlock sleepingBag) {
+		var color = sleepingBag.getColor();
+		var builder = blockStateBuilder(sleepingBag);
+
+		var footSideTexture = id("block/sleeping_bag/" + color.getName() + "/foot_side");
+		var footTopTexture = id("block/sleeping_bag/" + color.getName() + "/foot_top");
+		var footModel = modelBuilder(TEMPLATE_SLEEPING_BAG_FOOT_MODEL)
+				.texture("side", footSideTexture)
+				.texture("top", footTopTexture)
+				.register(id("block/sleeping_bag/" + color.getName() + "/foot"));
+
+		var headBottomTexture = id("block/sleeping_bag/" + color.getName() + "/head_bottom");
+		var headSideTexture = id("block/sleeping_bag/" + color.getName() + "/head_side");
+		var headTopTexture = id("block/sleeping_bag/" + color.getName() + "/head_top");
+		var headModel = modelBuilder(TEMPLATE_SLEEPING_BAG_HEAD_MODEL)
+				.texture("bottom", headBottomTexture)
+				.texture("side", headSideTexture)
+				.texture("top", headTopTexture)
+				.register(id("block/sleeping_bag/" + color.getName() + "/head"));
+
+		for (var direction : AuroraUtil.DIRECTIONS) {
+			if (direction.getAxis().isHorizontal()) {
+				builder.addToVariant("part=foot,facing=" + direction.getName(),
+						footModel,
+						((int) direction.asRotation() + 180) % 360);
+				builder.addToVariant("part=head,facing=" + direction.getName(),
+						headModel,
+						((int) direction.asRotation() + 180) % 360);
 			}
+		}
 
-			modelBuilder(BenchBlock.BENCH_FULL_MODEL)
-					.texture("log", logSideTexture)
-					.texture("planks", planksTexture)
-					.register(id("item/bench/" + pathName));
-			modelBuilder(TEMPLATE_SEAT_REST_ITEM_MODEL)
-					.texture("log", logSideTexture)
-					.texture("planks", planksTexture)
-					.register(id("item/seat_rest/" + pathName));
+		builder.register();
+
+		modelBuilder(TEMPLATE_SLEEPING_BAG_ITEM_MODEL)
+				.texture("foot_side", footSideTexture)
+				.texture("foot_top", footTopTexture)
+				.texture("head_bottom", headBottomTexture)
+				.texture("head_side", headSideTexture)
+				.texture("head_top", headTopTexture)
+				.register(id("item/" + Registries.ITEM.getId(sleepingBag.asItem()).getPath()));
+	}
+
+	private static void generateWallLanternClientData(WallLanternBlock<?> wallLantern) {
+		var builder = blockStateBuilder(wallLantern);
+		for (var direction : AuroraUtil.DIRECTIONS) {
+			if (direction.getAxis().isHorizontal()) {
+				int rotation = (int) (direction.getOpposite().asRotation() + 90) % 360;
+				builder.addToVariant("facing=" + direction.getName() + ",extension=none",
+						WALL_LANTERN_ATTACHMENT, rotation);
+				builder.addToVariant("facing=" + direction.getName() + ",extension=wall",
+						WALL_LANTERN_ATTACHMENT_EXTENDED1, rotation);
+				builder.addToVariant("facing=" + direction.getName() + ",extension=fence",
+						WALL_LANTERN_ATTACHMENT_EXTENDED2, rotation);
+			}
+		}
+		builder.register();
+
+		registerBetterGrassLayer(wallLantern, WallLanternBlock.LANTERN_BETTERGRASS_DATA);
+	}
+
+	private static void generateBenchClientData(ResourceManager resourceManager, BenchBlock block) {
+		var builder = multipartBlockStateBuilder(block);
+		var restBuilder = new MultipartBlockStateBuilder(AurorasDeco.id(Registries.BLOCK.getId(block).getPath() + "_rest"));
+
+		var pathName = block.getWoodType().getPathName();
+		var blockPathName = "block/bench/" + pathName;
+		var planksTexture = block.getWoodType().getPlanksTexture(resourceManager);
+		var logSideTexture = block.getWoodType().getLogSideTexture(resourceManager);
+		var seatModel = modelBuilder(BenchBlock.BENCH_SEAT_MODEL)
+				.texture("planks", planksTexture)
+				.register(block);
+		var restPlankModel = modelBuilder(BenchBlock.BENCH_REST_PLANK_MODEL)
+				.texture("planks", planksTexture)
+				.register(AurorasDeco.id(blockPathName + "_rest_plank"));
+		var restLeftModel = modelBuilder(BenchBlock.BENCH_REST_LEFT_MODEL)
+				.texture("log", logSideTexture)
+				.register(AurorasDeco.id(blockPathName + "_rest_left"));
+		var restRightModel = modelBuilder(BenchBlock.BENCH_REST_RIGHT_MODEL)
+				.texture("log", logSideTexture)
+				.register(AurorasDeco.id(blockPathName + "_rest_right"));
+		var legsModel = modelBuilder(BenchBlock.BENCH_LEGS_MODEL)
+				.texture("log", logSideTexture)
+				.register(AurorasDeco.id(blockPathName + "_legs"));
+
+		var withLeftLegs = BenchBlock.LEFT_LEGS.createValue(true);
+		var withRightLegs = BenchBlock.RIGHT_LEGS.createValue(true);
+		for (var facing : AuroraUtil.DIRECTIONS) {
+			if (facing.getAxis().isVertical()) continue;
+
+			var facingValue = BenchBlock.FACING.createValue(facing);
+
+			var rotation = ((facing.getHorizontal() + 2) & 3) * 90;
+			builder.addWhen(new StateModel(seatModel, rotation), facingValue);
+			builder.addWhen(new StateModel(legsModel, rotation), facingValue, withRightLegs);
+			builder.addWhen(new StateModel(legsModel, (rotation + 180) % 360), facingValue, withLeftLegs);
+			restBuilder.addWhen(new StateModel(restLeftModel, rotation), facingValue, withLeftLegs);
+			restBuilder.addWhen(new StateModel(restRightModel, rotation), facingValue, withRightLegs);
+			restBuilder.addWhen(new StateModel(restPlankModel, rotation), facingValue);
+		}
 
-			builder.register();
-			restBuilder.register();
+		modelBuilder(BenchBlock.BENCH_FULL_MODEL)
+				.texture("log", logSideTexture)
+				.texture("planks", planksTexture)
+				.register(id("item/bench/" + pathName));
+		modelBuilder(TEMPLATE_SEAT_REST_ITEM_MODEL)
+				.texture("log", logSideTexture)
+				.texture("planks", planksTexture)
+				.register(id("item/seat_rest/" + pathName));
 
-			registerBetterGrassLayer(block, BenchBlock.BENCH_BETTERGRASS_DATA);
+		builder.register();
+		restBuilder.register();
 
+		registerBetterGrassLayer(block, BenchBlock.BENCH_BETTERGRASS_DATA);
+
+		AurorasDecoClient.RESOURCE_PACK.defer(pack -> {
 			DynamicLang.registerWooded("item.aurorasdeco.seat_rest", block.getWoodType());
 			DynamicLang.registerWooded("block.aurorasdeco.bench", block.getWoodType());
 		});
 	}
 
-	private static void generateDirectionalSignsClientData(ResourceManager resourceManager) {
-		final NativeImage defaultTexture = resourceManager.getResource(SignPostItem.ABSOLUTE_OAK_SIGN_POST_TEXTURE)
-				.map(resource1 -> {
-					try (InputStream is = resource1.open()) {
+	private static @Nullable NativeImage readDefaultSignPostTexture(ResourceManager resourceManager) {
+		return resourceManager.getResource(SignPostItem.ABSOLUTE_OAK_SIGN_POST_TEXTURE)
+				.map(resource -> {
+					try (InputStream is = resource.open()) {
 						return NativeImage.read(is);
-					} catch (IOException e1) {
-						LOGGER.error("Cannot read the default texture of the directional sign.", e1);
+					} catch (IOException e) {
+						LOGGER.error("Cannot read the default texture of the directional sign.", e);
 						return null;
 					}
 				}).orElse(null);
-		final var defaultPalette = ColorUtil.getPaletteFromImage(defaultTexture);
+	}
 
-		SignPostItem.stream().forEach(item -> {
-			var planks = item.getWoodType().getComponent(WoodType.ComponentType.PLANKS);
+	private static void generateSignPostClientData(ResourceManager resourceManager, SignPostItem item,
+			@Nullable NativeImage defaultTexture, @Nullable IntList defaultTexturePalette) {
+		var planks = item.getWoodType().getComponent(WoodType.ComponentType.PLANKS);
 
-			var textureId = id("block/sign_post/" + item.getWoodType().getPathName());
+		var textureId = id("block/sign_post/" + item.getWoodType().getPathName());
 
-			modelBuilder(SignPostItem.SIGN_POST_MODEL)
-					.texture("sign", textureId)
-					.register(item);
+		modelBuilder(SignPostItem.SIGN_POST_MODEL)
+				.texture("sign", textureId)
+				.register(item);
 
-			DynamicLang.registerWooded("item.aurorasdeco.sign_post", item.getWoodType());
+		AurorasDecoClient.RESOURCE_PACK.defer(pack -> DynamicLang.registerWooded("item.aurorasdeco.sign_post", item.getWoodType()));
 
-			if (planks.block() == Blocks.OAK_PLANKS || defaultTexture == null)
-				return;
+		if (planks.block() == Blocks.OAK_PLANKS || defaultTexture == null)
+			return;
 
-			var planksTextureId = item.getWoodType().getPlanksTexture(resourceManager);
-			var texturePath = new Identifier(planksTextureId.getNamespace(), "textures/" + planksTextureId.getPath() + ".png");
-			var resource = resourceManager.getResource(texturePath);
+		var planksTextureId = item.getWoodType().getPlanksTexture(resourceManager);
+		var texturePath = new Identifier(planksTextureId.getNamespace(), "textures/" + planksTextureId.getPath() + ".png");
+		var resource = resourceManager.getResource(texturePath);
 
-			if (resource.isPresent()) {
-				try (InputStream is = resource.get().open()) {
-					var image = NativeImage.read(is);
+		if (resource.isPresent()) {
+			try (InputStream is = resource.get().open()) {
+				var image = NativeImage.read(is);
 
-					var woodPalette = ColorUtil.getPaletteFromImage(image, 8);
-					var outputImage = new NativeImage(defaultTexture.getWidth(), defaultTexture.getHeight(), true);
+				var woodPalette = ColorUtil.getPaletteFromImage(image, 8);
+				var outputImage = new NativeImage(defaultTexture.getWidth(), defaultTexture.getHeight(), true);
 
-					for (int y = 0; y < defaultTexture.getHeight(); y++) {
-						for (int x = 0; x < defaultTexture.getWidth(); x++) {
-							var paletteIndex = defaultPalette.indexOf(defaultTexture.getPixelColor(x, y));
+				for (int y = 0; y < defaultTexture.getHeight(); y++) {
+					for (int x = 0; x < defaultTexture.getWidth(); x++) {
+						var paletteIndex = defaultTexturePalette.indexOf(defaultTexture.getPixelColor(x, y));
 
-							if (paletteIndex < 0)
-								continue;
-							else if (paletteIndex >= woodPalette.size())
-								paletteIndex = woodPalette.size() - 1;
+						if (paletteIndex < 0)
+							continue;
+						else if (paletteIndex >= woodPalette.size())
+							paletteIndex = woodPalette.size() - 1;
 
-							outputImage.setPixelColor(x, y, woodPalette.getInt(paletteIndex));
-						}
+						outputImage.setPixelColor(x, y, woodPalette.getInt(paletteIndex));
 					}
+				}
 
-					image.close();
-					AurorasDecoClient.RESOURCE_PACK.putImage(textureId, outputImage);
+				image.close();
+				AurorasDecoClient.RESOURCE_PACK.defer(pack -> {
+					pack.putImage(textureId, outputImage);
 					outputImage.close();
-				} catch (IOException e) {
-					LOGGER.error("Cannot read the planks texture to generate the directional sign texture.", e);
-				}
-			} else {
-				LOGGER.error("Cannot read the planks texture to generate the directional sign texture: could not find the texture.");
+				});
+			} catch (IOException e) {
+				LOGGER.error("Cannot read the planks texture to generate the directional sign texture.", e);
 			}
-		});
-
-		defaultTexture.close();
+		} else {
+			LOGGER.error("Cannot read the planks texture to generate the directional sign texture: could not find the texture.");
+		}
 	}
 
-	private static void generateShelvesClientData(ResourceManager resourceManager) {
-		ShelfBlock.streamShelves().forEach(block -> {
-			var woodPathName = block.getWoodType().getPathName();
-			var builder = blockStateBuilder(block);
-
-			var planksTexture = block.getWoodType().getPlanksTexture(resourceManager);
-			var logTexture = block.getWoodType().getLogSideTexture(resourceManager);
-			Identifier bottomModel = null;
-			for (var partType : PartType.getValues()) {
-				var model = modelBuilder(id("block/template/shelf_" + partType.asString()))
-						.texture("planks", planksTexture)
-						.texture("log", logTexture)
-						.register(id("block/shelf/" + woodPathName + '/' + partType.asString()));
-				if (partType == PartType.BOTTOM)
-					bottomModel = model;
-
-				for (var direction : AuroraUtil.DIRECTIONS) {
-					if (direction.getAxis().isVertical())
-						continue;
-
-					builder.addToVariant("type=" + partType.asString() + ",facing=" + direction.asString(),
-							new StateModel(model, switch (direction) {
-								default -> 0;
-								case EAST -> 90;
-								case SOUTH -> 180;
-								case WEST -> 270;
-							}));
-				}
+	private static void generateShelfClientData(ResourceManager resourceManager, ShelfBlock block) {
+		var woodPathName = block.getWoodType().getPathName();
+		var builder = blockStateBuilder(block);
+
+		var planksTexture = block.getWoodType().getPlanksTexture(resourceManager);
+		var logTexture = block.getWoodType().getLogSideTexture(resourceManager);
+		Identifier bottomModel = null;
+		for (var partType : PartType.getValues()) {
+			var model = modelBuilder(id("block/template/shelf_" + partType.asString()))
+					.texture("planks", planksTexture)
+					.texture("log", logTexture)
+					.register(id("block/shelf/" + woodPathName + '/' + partType.asString()));
+			if (partType == PartType.BOTTOM)
+				bottomModel = model;
+
+			for (var direction : AuroraUtil.DIRECTIONS) {
+				if (direction.getAxis().isVertical())
+					continue;
+
+				builder.addToVariant("type=" + partType.asString() + ",facing=" + direction.asString(),
+						new StateModel(model, switch (direction) {
+							default -> 0;
+							case EAST -> 90;
+							case SOUTH -> 180;
+							case WEST -> 270;
+						}));
 			}
+		}
 
-			modelBuilder(bottomModel).register(id("item/shelf/" + woodPathName));
-			builder.register();
+		modelBuilder(bottomModel).register(id("item/shelf/" + woodPathName));
+		builder.register();
 
-			Datagen.registerBetterGrassLayer(AurorasDeco.id("shelf/" + woodPathName), Datagen.SHELF_BETTERGRASS_DATA);
+		Datagen.registerBetterGrassLayer(AurorasDeco.id("shelf/" + woodPathName), Datagen.SHELF_BETTERGRASS_DATA);
 
-			DynamicLang.registerWooded("block.aurorasdeco.shelf", block.getWoodType());
-		});
+		AurorasDecoClient.RESOURCE_PACK.defer(pack -> DynamicLang.registerWooded("block.aurorasdeco.shelf", block.getWoodType()));
 	}
 
-	private static void generateSmallLogPilesClientData(ResourceManager resourceManager) {
-		SmallLogPileBlock.stream().forEach(block -> {
-			if (AuroraUtil.idEqual(block.getWoodType().getId(), "minecraft", "oak"))
-				return;
-			var woodPathName = block.getWoodType().getPathName();
-
-			var builder = new MultipartBlockStateBuilder(block);
-
-			var partTypes = PartType.getValues();
-			var models = new Identifier[partTypes.size()];
-			for (int i = 0; i < partTypes.size(); i++) {
-				var partType = partTypes.get(i);
-				models[i] = modelBuilder(switch (partType) {
-					case BOTTOM -> SmallLogPileBlock.BOTTOM_MODEL;
-					case TOP -> SmallLogPileBlock.TOP_MODEL;
-					case DOUBLE -> SmallLogPileBlock.DOUBLE_MODEL;
-				})
-						.texture("log", block.getWoodType().getLogSideTexture(resourceManager))
-						.texture("log_top", block.getWoodType().getLogTopTexture(resourceManager))
-						.register(id("block/small_log_pile/" + woodPathName + '/' + partType.asString()));
-			}
+	private static void generateSmallLogPileClientData(ResourceManager resourceManager, SmallLogPileBlock block) {
+		if (AuroraUtil.idEqual(block.getWoodType().getId(), "minecraft", "oak"))
+			return;
+		var woodPathName = block.getWoodType().getPathName();
+
+		var builder = new MultipartBlockStateBuilder(block);
+
+		var partTypes = PartType.getValues();
+		var models = new Identifier[partTypes.size()];
+		for (int i = 0; i < partTypes.size(); i++) {
+			var partType = partTypes.get(i);
+			models[i] = modelBuilder(switch (partType) {
+				case BOTTOM -> SmallLogPileBlock.BOTTOM_MODEL;
+				case TOP -> SmallLogPileBlock.TOP_MODEL;
+				case DOUBLE -> SmallLogPileBlock.DOUBLE_MODEL;
+			})
+					.texture("log", block.getWoodType().getLogSideTexture(resourceManager))
+					.texture("log_top", block.getWoodType().getLogTopTexture(resourceManager))
+					.register(id("block/small_log_pile/" + woodPathName + '/' + partType.asString()));
+		}
 
-			for (var direction : AuroraUtil.DIRECTIONS) {
-				if (direction.getAxis().isVertical())
-					continue;
+		for (var direction : AuroraUtil.DIRECTIONS) {
+			if (direction.getAxis().isVertical())
+				continue;
 
-				var facingValue = SmallLogPileBlock.FACING.createValue(direction);
+			var facingValue = SmallLogPileBlock.FACING.createValue(direction);
 
-				builder.addWhenOr(new StateModel(models[0], (int) direction.asRotation()),
-						new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_BOTTOM),
-						new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE));
-				builder.addWhenOr(new StateModel(models[1], (int) direction.asRotation()),
-						new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_TOP),
-						new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE));
-				builder.addWhen(new StateModel(models[2], (int) direction.asRotation()), facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE);
-			}
+			builder.addWhenOr(new StateModel(models[0], (int) direction.asRotation()),
+					new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_BOTTOM),
+					new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE));
+			builder.addWhenOr(new StateModel(models[1], (int) direction.asRotation()),
+					new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_TOP),
+					new MultipartOr(facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE));
+			builder.addWhen(new StateModel(models[2], (int) direction.asRotation()), facingValue, AurorasDecoProperties.PART_TYPE_DOUBLE);
+		}
 
-			modelBuilder(models[0]).register(id("item/small_log_pile/" + block.getWoodType().getPathName()));
+		modelBuilder(models[0]).register(id("item/small_log_pile/" + block.getWoodType().getPathName()));
 
-			builder.register();
+		builder.register();
 
-			registerBetterGrassLayer(block, SmallLogPileBlock.BETTERGRASS_DATA);
+		registerBetterGrassLayer(block, SmallLogPileBlock.BETTERGRASS_DATA);
 
-			DynamicLang.registerProvider(
-					"block.aurorasdeco.small_log_pile." + block.getWoodType().getAbsoluteLangPath(),
-					entry -> context -> context.getFormatted("block.aurorasdeco.small_" + block.getWoodType().getLogType() + "_pile",
-							context.getOrKey(block.getWoodType().getFullLangPath()))
-			);
-		});
+		AurorasDecoClient.RESOURCE_PACK.defer(pack -> DynamicLang.registerProvider(
+				"block.aurorasdeco.small_log_pile." + block.getWoodType().getAbsoluteLangPath(),
+				entry -> context -> context.getFormatted("block.aurorasdeco.small_" + block.getWoodType().getLogType() + "_pile",
+						context.getOrKey(block.getWoodType().getFullLangPath()))
+		));
 	}
 
-	private static void generateStumpsClientData(ResourceManager resourceManager) {
-		StumpBlock.streamLogStumps().forEach(block -> {
-			var builder = blockStateBuilder(block);
-
-			Identifier model;
-			var logSideTexture = block.getWoodType().getLogSideTexture(resourceManager);
-			var logTopTexture = block.getWoodType().getLogTopTexture(resourceManager);
-			if (block.getWoodType().getLogType().equals("stem")) {
-				Identifier leavesTexture;
-				var component = block.getWoodType().getComponent(WoodType.ComponentType.LEAVES);
-				if (component == null) leavesTexture = new Identifier("block/red_mushroom_block");
-				else leavesTexture = block.getWoodType().getLeavesTexture(resourceManager);
-				model = modelBuilder(StumpBlock.STEM_STUMP_MODEL)
-						.texture("log_side", logSideTexture)
-						.texture("log_top", logTopTexture)
-						.texture("mushroom", leavesTexture)
-						.register(block);
-				for (var direction : AuroraUtil.DIRECTIONS) {
-					if (direction.getAxis().isHorizontal())
-						builder.addToVariant("", model, (int) direction.asRotation());
-				}
-			} else {
-				model = new ModelBuilder(StumpBlock.LOG_STUMP_MODEL)
-						.texture("log_side", logSideTexture)
-						.texture("log_top", logTopTexture)
-						.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
-						.register(block);
-				var brownMushroomModel = modelBuilder(StumpBlock.LOG_STUMP_BROWN_MUSHROOM_MODEL)
-						.texture("log_side", logSideTexture)
-						.texture("log_top", logTopTexture)
-						.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
-						.texture("mushroom", new Identifier("block/brown_mushroom_block"))
-						.register(id("block/stump/"
-								+ block.getWoodType().getPathName() + "_brown_mushroom"));
-				var redMushroomModel = modelBuilder(StumpBlock.LOG_STUMP_RED_MUSHROOM_MODEL)
-						.texture("log_side", logSideTexture)
-						.texture("log_top", logTopTexture)
-						.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
-						.texture("mushroom", new Identifier("block/red_mushroom_block"))
-						.register(id("block/stump/"
-								+ block.getWoodType().getPathName() + "_red_mushroom"));
-
-				for (var direction : AuroraUtil.DIRECTIONS) {
-					if (direction.getAxis().isHorizontal()) {
-						int rotation = (int) direction.asRotation();
-						builder.addToVariant("", model, rotation);
-						builder.addToVariant("", brownMushroomModel, rotation);
-						builder.addToVariant("", redMushroomModel, rotation);
-					}
+	private static void generateStumpClientData(ResourceManager resourceManager, StumpBlock block) {
+		var builder = blockStateBuilder(block);
+
+		Identifier model;
+		var logSideTexture = block.getWoodType().getLogSideTexture(resourceManager);
+		var logTopTexture = block.getWoodType().getLogTopTexture(resourceManager);
+		if (block.getWoodType().getLogType().equals("stem")) {
+			Identifier leavesTexture;
+			var component = block.getWoodType().getComponent(WoodType.ComponentType.LEAVES);
+			if (component == null) leavesTexture = new Identifier("block/red_mushroom_block");
+			else leavesTexture = block.getWoodType().getLeavesTexture(resourceManager);
+			model = modelBuilder(StumpBlock.STEM_STUMP_MODEL)
+					.texture("log_side", logSideTexture)
+					.texture("log_top", logTopTexture)
+					.texture("mushroom", leavesTexture)
+					.register(block);
+			for (var direction : AuroraUtil.DIRECTIONS) {
+				if (direction.getAxis().isHorizontal())
+					builder.addToVariant("", model, (int) direction.asRotation());
+			}
+		} else {
+			model = new ModelBuilder(StumpBlock.LOG_STUMP_MODEL)
+					.texture("log_side", logSideTexture)
+					.texture("log_top", logTopTexture)
+					.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
+					.register(block);
+			var brownMushroomModel = modelBuilder(StumpBlock.LOG_STUMP_BROWN_MUSHROOM_MODEL)
+					.texture("log_side", logSideTexture)
+					.texture("log_top", logTopTexture)
+					.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
+					.texture("mushroom", new Identifier("block/brown_mushroom_block"))
+					.register(id("block/stump/"
+							+ block.getWoodType().getPathName() + "_brown_mushroom"));
+			var redMushroomModel = modelBuilder(StumpBlock.LOG_STUMP_RED_MUSHROOM_MODEL)
+					.texture("log_side", logSideTexture)
+					.texture("log_top", logTopTexture)
+					.texture("leaf", LOG_STUMP_LEAF_TEXTURE)
+					.texture("mushroom", new Identifier("block/red_mushroom_block"))
+					.register(id("block/stump/"
+							+ block.getWoodType().getPathName() + "_red_mushroom"));
+
+			for (var direction : AuroraUtil.DIRECTIONS) {
+				if (direction.getAxis().isHorizontal()) {
+					int rotation = (int) direction.asRotation();
+					builder.addToVariant("", model, rotation);
+					builder.addToVariant("", brownMushroomModel, rotation);
+					builder.addToVariant("", redMushroomModel, rotation);
 				}
 			}
+		}
 
-			modelBuilder(model).register(id("item/stump/" + block.getWoodType().getPathName()));
+		modelBuilder(model).register(id("item/stump/" + block.getWoodType().getPathName()));
 
-			builder.register();
+		builder.register();
 
-			registerBetterGrassLayer(block, StumpBlock.STUMP_BETTERGRASS_DATA);
+		registerBetterGrassLayer(block, StumpBlock.STUMP_BETTERGRASS_DATA);
 
-			DynamicLang.registerWooded("block.aurorasdeco.stump", block.getWoodType());
-		});
+		AurorasDecoClient.RESOURCE_PACK.defer(pack -> DynamicLang.registerWooded("block.aurorasdeco.stump", block.getWoodType()));
 	}
 
 	private static void generateSimpleItemModel(Item item) {
@@ -909,4 +972,20 @@ public final class Datagen {
 	public static ModelBuilder modelBuilder(Identifier parent) {
 		return new ModelBuilder(parent);
 	}
+
+	/**
+	 * Represents a task of the client data generation.
+	 *
+	 * @param family the family of resources the task generates, used for timings
+	 * @param generator the generator
+	 */
+	private record ClientDataTask(String family, Runnable generator) {
+		ClientDataResult run() {
+			long start = System.nanoTime();
+			var batch = AurorasDecoClient.RESOURCE_PACK.collect(this.generator);
+			return new ClientDataResult(this.family, batch, System.nanoTime() - start);
+		}
+	}
+
+	private record ClientDataResult(String family, AurorasDecoPack.Batch batch, long time) {}
 }
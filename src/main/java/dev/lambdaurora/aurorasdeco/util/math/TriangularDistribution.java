@@ -17,19 +17,14 @@
 
 package dev.lambdaurora.aurorasdeco.util.math;
 
-import org.jetbrains.annotations.Nullable;
-
-import java.util.Random;
-
 /**
  * Represents a triangular distribution.
  */
 public final class TriangularDistribution {
 	private final float a, b, c;
-	private final Random random;
 	private final float f;
 
-	public TriangularDistribution(float a, float b, float c, @Nullable Random random) {
+	public TriangularDistribution(float a, float b, float c) {
 		if (!(a < b) || !(a <= c && c <= b))
 			throw new IllegalArgumentException("Parameters should be a <= b <= c, had a=" + a + " b=" + b + " c=" + c);
 
@@ -37,11 +32,15 @@ public final class TriangularDistribution {
 		this.b = b;
 		this.c = c;
 		this.f = (c - a) / (b - a);
-		this.random = random == null ? new Random() : random;
 	}
 
-	public float sample() {
-		float u = this.random.nextFloat();
+	/**
+	 * Samples this distribution from the given uniformly distributed value.
+	 *
+	 * @param u the uniformly distributed value in {@code [0, 1)}
+	 * @return the sampled value
+	 */
+	public float sample(float u) {
 		if (u < this.f) return this.a + (float) Math.sqrt(u * (this.b - this.a) * (this.c - this.a));
 		return this.b - (float) Math.sqrt((1 - u) * (this.b - this.a) * (this.b - this.c));
 	}
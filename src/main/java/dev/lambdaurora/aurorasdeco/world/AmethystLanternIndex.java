@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.world;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import dev.lambdaurora.aurorasdeco.block.AmethystLanternBlock;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.poi.PointOfInterest;
+import net.minecraft.world.poi.PointOfInterestStorage;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Represents the per-world index of the amethyst lanterns in loaded chunks, used to find out which positions are protected
+ * by amethyst lanterns without querying the point of interest storage.
+ * <p>
+ * Lanterns are bucketed by chunk, and every chunk keeps the list of lanterns whose effect reaches it.
+ * The effect radius never spans more than 2 chunks from the queried position, which is always loaded
+ * around the entity-ticking chunks where mobs spawn and convert.
+ * <p>
+ * Setting the {@code aurorasdeco.amethyst_lantern.verify_index} system property to {@code true} checks every answer
+ * against the point of interest storage, logs mismatches and uses the point of interest answer.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AmethystLanternIndex {
+	private static final boolean VERIFY = Boolean.getBoolean("aurorasdeco.amethyst_lantern.verify_index");
+	private static final Map<ServerWorld, AmethystLanternIndex> INDICES = new WeakHashMap<>();
+
+	/**
+	 * The lanterns of each chunk.
+	 */
+	private final Long2ObjectMap<LongSet> lanterns = new Long2ObjectOpenHashMap<>();
+	/**
+	 * The lanterns whose effect reaches each chunk.
+	 */
+	private final Long2ObjectMap<LongList> coverage = new Long2ObjectOpenHashMap<>();
+
+	private AmethystLanternIndex() {}
+
+	public static void init() {
+		ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> get(world).onChunkLoad(world, chunk.getPos()));
+		ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> get(world).onChunkUnload(chunk.getPos()));
+	}
+
+	/**
+	 * {@return the amethyst lantern index of the given world}
+	 *
+	 * @param world the world
+	 */
+	public static AmethystLanternIndex get(ServerWorld world) {
+		return INDICES.computeIfAbsent(world, w -> new AmethystLanternIndex());
+	}
+
+	public static boolean isAmethystLantern(BlockState state) {
+		return state.isOf(AurorasDecoRegistry.AMETHYST_LANTERN_BLOCK) || state.isOf(AurorasDecoRegistry.AMETHYST_WALL_LANTERN_BLOCK);
+	}
+
+	/**
+	 * Updates the index of the given world after a block change.
+	 *
+	 * @param world the world
+	 * @param pos the position of the changed block
+	 * @param oldState the previous block state
+	 * @param newState the new block state
+	 */
+	public static void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+		boolean wasLantern = isAmethystLantern(oldState);
+		boolean isLantern = isAmethystLantern(newState);
+
+		if (wasLantern && !isLantern) {
+			get(world).remove(pos.asLong());
+		} else if (isLantern && !wasLantern) {
+			get(world).add(pos.asLong());
+		}
+	}
+
+	/**
+	 * Returns whether the given position is protected by an amethyst lantern.
+	 *
+	 * @param world the world
+	 * @param pos the position
+	 * @return {@code true} if an amethyst lantern is in range, or {@code false} otherwise
+	 */
+	public static boolean isProtected(ServerWorld world, BlockPos pos) {
+		boolean result = get(world).isProtected(pos);
+
+		if (VERIFY) {
+			boolean expected = queryPointsOfInterest(world, pos).findAny().isPresent();
+
+			if (expected != result) {
+				AurorasDeco.warn("Amethyst lantern index answered {} instead of {} for {} in {}.",
+						result, expected, pos, world.getRegistryKey().getValue());
+				return expected;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Counts the amethyst lanterns in range of the given position.
+	 *
+	 * @param world the world
+	 * @param pos the position
+	 * @return the amount of amethyst lanterns in range
+	 */
+	public static int countInRange(ServerWorld world, BlockPos pos) {
+		int result = get(world).countInRange(pos);
+
+		if (VERIFY) {
+			int expected = (int) queryPointsOfInterest(world, pos).count();
+
+			if (expected != result) {
+				AurorasDeco.warn("Amethyst lantern index counted {} instead of {} lanterns for {} in {}.",
+						result, expected, pos, world.getRegistryKey().getValue());
+				return expected;
+			}
+		}
+
+		return result;
+	}
+
+	private boolean isProtected(BlockPos pos) {
+		var covering = this.coverage.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (covering == null) return false;
+
+		for (int i = 0; i < covering.size(); i++) {
+			if (isInRange(covering.getLong(i), pos)) return true;
+		}
+
+		return false;
+	}
+
+	private int countInRange(BlockPos pos) {
+		var covering = this.coverage.get(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (covering == null) return 0;
+
+		int count = 0;
+		for (int i = 0; i < covering.size(); i++) {
+			if (isInRange(covering.getLong(i), pos)) count++;
+		}
+
+		return count;
+	}
+
+	private void onChunkLoad(ServerWorld world, ChunkPos chunkPos) {
+		world.getPointOfInterestStorage().getInChunk(
+				poiType -> poiType.isRegistryKey(AurorasDecoRegistry.AMETHYST_LANTERN_POI),
+				chunkPos,
+				PointOfInterestStorage.OccupationStatus.ANY
+		).forEach(poi -> this.add(poi.getPos().asLong()));
+	}
+
+	private void onChunkUnload(ChunkPos chunkPos) {
+		var chunkLanterns = this.lanterns.remove(chunkPos.toLong());
+		if (chunkLanterns == null) return;
+
+		chunkLanterns.forEach(this::uncover);
+	}
+
+	private void add(long pos) {
+		int x = BlockPos.unpackLongX(pos);
+		int z = BlockPos.unpackLongZ(pos);
+
+		if (this.lanterns.computeIfAbsent(ChunkPos.toLong(x >> 4, z >> 4), chunk -> new LongOpenHashSet()).add(pos)) {
+			for (int chunkX = (x - AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkX <= (x + AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkX++) {
+				for (int chunkZ = (z - AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkZ <= (z + AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkZ++) {
+					this.coverage.computeIfAbsent(ChunkPos.toLong(chunkX, chunkZ), chunk -> new LongArrayList(2)).add(pos);
+				}
+			}
+		}
+	}
+
+	private void remove(long pos) {
+		long chunk = ChunkPos.toLong(BlockPos.unpackLongX(pos) >> 4, BlockPos.unpackLongZ(pos) >> 4);
+		var chunkLanterns = this.lanterns.get(chunk);
+
+		if (chunkLanterns != null && chunkLanterns.remove(pos)) {
+			if (chunkLanterns.isEmpty()) this.lanterns.remove(chunk);
+
+			this.uncover(pos);
+		}
+	}
+
+	private void uncover(long pos) {
+		int x = BlockPos.unpackLongX(pos);
+		int z = BlockPos.unpackLongZ(pos);
+
+		for (int chunkX = (x - AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkX <= (x + AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkX++) {
+			for (int chunkZ = (z - AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkZ <= (z + AmethystLanternBlock.EFFECT_RADIUS) >> 4; chunkZ++) {
+				long chunk = ChunkPos.toLong(chunkX, chunkZ);
+				var covering = this.coverage.get(chunk);
+
+				if (covering != null) {
+					covering.rem(pos);
+					if (covering.isEmpty()) this.coverage.remove(chunk);
+				}
+			}
+		}
+	}
+
+	private static boolean isInRange(long lantern, BlockPos pos) {
+		return Math.abs(BlockPos.unpackLongX(lantern) - pos.getX()) <= AmethystLanternBlock.EFFECT_RADIUS
+				&& Math.abs(BlockPos.unpackLongZ(lantern) - pos.getZ()) <= AmethystLanternBlock.EFFECT_RADIUS
+				&& Math.abs(BlockPos.unpackLongY(lantern) - pos.getY()) <= AmethystLanternBlock.EFFECT_RADIUS;
+	}
+
+	private static Stream<PointOfInterest> queryPointsOfInterest(ServerWorld world, BlockPos pos) {
+		return world.getPointOfInterestStorage().getInSquare(
+				poiType -> poiType.isRegistryKey(AurorasDecoRegistry.AMETHYST_LANTERN_POI),
+				pos,
+				AmethystLanternBlock.EFFECT_RADIUS,
+				PointOfInterestStorage.OccupationStatus.ANY
+		).filter(poi -> {
+			int y = poi.getPos().getY();
+			return pos.getY() <= y + AmethystLanternBlock.EFFECT_RADIUS && pos.getY() >= y - AmethystLanternBlock.EFFECT_RADIUS;
+		});
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.world;
+
+import dev.lambdaurora.aurorasdeco.mixin.world.BiomeAccessAccessor;
+import dev.lambdaurora.aurorasdeco.util.math.SmoothNoise;
+import dev.lambdaurora.aurorasdeco.util.math.TriangularDistribution;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Represents the wind of a world, as a deterministic function of the world seed, the time and the weather.
+ * <p>
+ * The wind is made of smooth noise channels whose control points are hashed from the seed and their index,
+ * so any tick can be sampled in constant time without allocating and without simulating the ticks before it.
+ * Every player of a world, and the server, sees the same wind.
+ * <p>
+ * The weather is given as the rain and thunder gradients of the world, which fade in and out over several seconds,
+ * so the wind velocity is blended between the states of the weather instead of jumping when the weather changes.
+ * <p>
+ * Originally based on the wind simulation Fourmisain wrote for Falling Leaves.
+ * https://github.com/RandomMcSomethin/fallingleaves/blob/main/src/main/java/randommcsomethin/fallingleaves/util/Wind.java
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class WindModel {
+	/**
+	 * The interval in ticks between two control points of the wind velocity.
+	 */
+	public static final int VELOCITY_INTERVAL = 2 * 20;
+	/**
+	 * The interval in ticks between two control points of the wind direction.
+	 */
+	public static final int DIRECTION_INTERVAL = 10 * 20;
+	/**
+	 * The duration in ticks of a wind state, unless the weather changes.
+	 */
+	public static final int STATE_DURATION = 6 * 60 * 20;
+	private static final long VELOCITY_CHANNEL = 0x5e1cc17aL;
+	private static final long DIRECTION_CHANNEL = 0xd14ec710L;
+	private static final long STATE_CHANNEL = 0x57a7e000L;
+
+	private final long seed;
+
+	public WindModel(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Creates the wind model of the given world.
+	 * <p>
+	 * The hashed seed is used, which is the seed clients know about.
+	 *
+	 * @param world the world
+	 * @return the wind model
+	 */
+	public static WindModel of(World world) {
+		return new WindModel(((BiomeAccessAccessor) world.getBiomeAccess()).getSeed());
+	}
+
+	/**
+	 * Gets the wind state at the given time.
+	 *
+	 * @param time the world time in ticks
+	 * @param dimension the dimension
+	 * @param raining {@code true} if it is raining, or {@code false} otherwise
+	 * @param thundering {@code true} if it is thundering, or {@code false} otherwise
+	 * @return the wind state
+	 */
+	public State getState(long time, DimensionType dimension, boolean raining, boolean thundering) {
+		var state = getDimensionState(dimension);
+		return state != null ? state : this.getState(time, raining, thundering);
+	}
+
+	/**
+	 * Gets the wind state at the given time in a dimension with weather.
+	 *
+	 * @param time the world time in ticks
+	 * @param raining {@code true} if it is raining, or {@code false} otherwise
+	 * @param thundering {@code true} if it is thundering, or {@code false} otherwise
+	 * @return the wind state
+	 */
+	public State getState(long time, boolean raining, boolean thundering) {
+		if (thundering) {
+			return State.STORMY;
+		}
+
+		// Windy and stormy when raining, calm and windy otherwise.
+		int index = this.getClearStateIndex(time);
+		return State.VALUES.get(raining ? index + 1 : index);
+	}
+
+	/**
+	 * Samples the wind at the given time.
+	 *
+	 * @param time the world time in ticks
+	 * @param dimension the dimension
+	 * @param rainGradient the rain gradient of the world, between {@code 0} and {@code 1}
+	 * @param thunderGradient the thunder gradient of the world, between {@code 0} and {@code 1}
+	 * @param sample the sample to write the wind into
+	 * @return the given sample
+	 */
+	public Sample sample(long time, DimensionType dimension, float rainGradient, float thunderGradient, Sample sample) {
+		return this.sample(time, getDimensionState(dimension), rainGradient, thunderGradient, sample);
+	}
+
+	/**
+	 * Samples the wind at the given time in a dimension with weather.
+	 *
+	 * @param time the world time in ticks
+	 * @param rainGradient the rain gradient of the world, between {@code 0} and {@code 1}
+	 * @param thunderGradient the thunder gradient of the world, between {@code 0} and {@code 1}
+	 * @param sample the sample to write the wind into
+	 * @return the given sample
+	 */
+	public Sample sample(long time, float rainGradient, float thunderGradient, Sample sample) {
+		return this.sample(time, null, rainGradient, thunderGradient, sample);
+	}
+
+	private Sample sample(long time, @Nullable State dimensionState, float rainGradient, float thunderGradient, Sample sample) {
+		long velocityIndex = Math.floorDiv(time, VELOCITY_INTERVAL);
+		float velocityT = (time - velocityIndex * VELOCITY_INTERVAL) / (float) VELOCITY_INTERVAL;
+		float left = this.getVelocityPoint(velocityIndex, dimensionState, rainGradient, thunderGradient);
+		float right = this.getVelocityPoint(velocityIndex + 1, dimensionState, rainGradient, thunderGradient);
+		float strength = left + SmoothNoise.smoothStep(velocityT) * (right - left);
+
+		long directionIndex = Math.floorDiv(time, DIRECTION_INTERVAL);
+		float directionT = (time - directionIndex * DIRECTION_INTERVAL) / (float) DIRECTION_INTERVAL;
+		left = this.getDirectionPoint(directionIndex);
+		right = this.getDirectionPoint(directionIndex + 1);
+		// The linear and smooth interpolations of the direction are summed up.
+		float direction = 2 * left + (directionT + SmoothNoise.smoothStep(directionT)) * (right - left);
+
+		// Same thresholds as World#isRaining and World#isThundering.
+		sample.state = dimensionState != null ? dimensionState
+				: this.getState(time, rainGradient > 0.2f, thunderGradient > 0.9f);
+		sample.windX = strength * MathHelper.cos(direction);
+		sample.windZ = strength * MathHelper.sin(direction);
+		return sample;
+	}
+
+	/**
+	 * {@return the fixed wind state of the given dimension, or {@code null} if the wind state follows the weather}
+	 */
+	private static @Nullable State getDimensionState(DimensionType dimension) {
+		if (!dimension.natural() || dimension.hasCeiling()) {
+			// Nether-like dimensions are windy, there's no wind in the others.
+			return dimension.ultraWarm() ? State.WINDY : State.CALM;
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@return the index of the wind state at the given time when the weather is clear, either calm or windy}
+	 */
+	private int getClearStateIndex(long time) {
+		return this.hash(STATE_CHANNEL, Math.floorDiv(time, STATE_DURATION)) < 0.5f ? 0 : 1;
+	}
+
+	private float getVelocityPoint(long index, @Nullable State dimensionState, float rainGradient, float thunderGradient) {
+		float u = this.hash(VELOCITY_CHANNEL, index);
+		if (dimensionState != null) return dimensionState.getVelocityDistribution().sample(u);
+
+		// The state of the control point follows its own time, the weather gradients blend it with the next states.
+		int stateIndex = this.getClearStateIndex(index * VELOCITY_INTERVAL);
+		float velocity = MathHelper.lerp(rainGradient,
+				State.VALUES.get(stateIndex).getVelocityDistribution().sample(u),
+				State.VALUES.get(stateIndex + 1).getVelocityDistribution().sample(u)
+		);
+		return MathHelper.lerp(thunderGradient, velocity, State.STORMY.getVelocityDistribution().sample(u));
+	}
+
+	private float getDirectionPoint(long index) {
+		return (2.f * this.hash(DIRECTION_CHANNEL, index) - 1.f) * MathHelper.TAU / 8.f;
+	}
+
+	/**
+	 * {@return a uniformly distributed value in {@code [0, 1)} for the given channel and index}
+	 */
+	private float hash(long channel, long index) {
+		long hash = HashCommon.murmurHash3(HashCommon.murmurHash3(this.seed ^ channel) + index);
+		return (hash >>> 40) * 0x1.0p-24f;
+	}
+
+	/**
+	 * Represents the wind at a given time.
+	 */
+	public static final class Sample {
+		private State state = State.CALM;
+		private float windX;
+		private float windZ;
+
+		public State getState() {
+			return this.state;
+		}
+
+		public float getWindX() {
+			return this.windX;
+		}
+
+		public float getWindZ() {
+			return this.windZ;
+		}
+	}
+
+	public enum State {
+		CALM(0.05f, 0.05f, 0.2f),
+		WINDY(0.05f, 0.3f, 0.7f),
+		STORMY(0.05f, 0.6f, 1.1f);
+
+		public static final List<State> VALUES = List.of(values());
+
+		private final TriangularDistribution velocityDistribution;
+
+		State(float minSpeed, float likelySpeed, float maxSpeed) {
+			this.velocityDistribution = new TriangularDistribution(minSpeed, maxSpeed, likelySpeed);
+		}
+
+		public TriangularDistribution getVelocityDistribution() {
+			return this.velocityDistribution;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.world.gen.feature;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Locates the destinations of way signs over several ticks, and caches them per chunk.
+ * <p>
+ * Way signs in the same chunk share the found structures, only the distances are computed again for each sign.
+ * The cache is kept per chunk as the search only keeps the two closest structures from the first sign,
+ * which may not be the closest ones of signs further away.
+ * <p>
+ * Searches run on the server thread, as locating structures loads chunks, but each world only checks
+ * a limited amount of potential structure starts per tick. Pending signs keep ticking until their search is done.
+ * Nothing outlives the world, so a search interrupted by the server stopping is simply dropped with it.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class WaySignDestinationLocator {
+	private static final int MAX_CACHED_CHUNKS = 1024;
+	/**
+	 * The maximum amount of potential structure starts checked per tick in a world.
+	 */
+	private static final int MAX_CHECKS_PER_TICK = 8;
+	/**
+	 * The delay in ticks before a failed search is started again.
+	 */
+	private static final int RETRY_DELAY = 30 * 20;
+	private static final Map<ServerWorld, WaySignDestinationLocator> LOCATORS = new WeakHashMap<>();
+
+	private final Long2ObjectLinkedOpenHashMap<List<WaySignFeature.FoundFeatureEntry>> cache = new Long2ObjectLinkedOpenHashMap<>();
+	private final Long2ObjectMap<WaySignFeature.DestinationSearch> pending = new Long2ObjectOpenHashMap<>();
+	/**
+	 * The world time after which the search of a chunk may be retried, for chunks whose search failed.
+	 */
+	private final Long2LongMap retryTimes = new Long2LongOpenHashMap();
+	private long checksTime = Long.MIN_VALUE;
+	private int checksLeft;
+
+	private WaySignDestinationLocator() {}
+
+	/**
+	 * {@return the way sign destination locator of the given world}
+	 *
+	 * @param world the world
+	 */
+	static WaySignDestinationLocator get(ServerWorld world) {
+		return LOCATORS.computeIfAbsent(world, w -> new WaySignDestinationLocator());
+	}
+
+	/**
+	 * Gets the destinations of a way sign if its chunk has already been searched, or advances the search otherwise.
+	 * <p>
+	 * This must be called on the server thread.
+	 *
+	 * @param world the world the way sign is in
+	 * @param origin the position of the way sign
+	 * @param search the factory of the search to run if the chunk isn't known
+	 * @return the two closest destinations sorted by distance, or {@code null} if the search is still in progress
+	 */
+	@Nullable List<WaySignFeature.FoundFeatureEntry> getOrLocate(ServerWorld world, BlockPos origin,
+			Supplier<WaySignFeature.DestinationSearch> search) {
+		long chunk = ChunkPos.toLong(origin.getX() >> 4, origin.getZ() >> 4);
+
+		var found = this.cache.getAndMoveToLast(chunk);
+		if (found != null) {
+			return rank(found, origin);
+		}
+
+		long time = world.getTime();
+		if (time != this.checksTime) {
+			this.checksTime = time;
+			this.checksLeft = MAX_CHECKS_PER_TICK;
+		}
+
+		if (this.checksLeft <= 0 || time < this.retryTimes.getOrDefault(chunk, Long.MIN_VALUE)) {
+			return null;
+		}
+
+		var chunkSearch = this.pending.get(chunk);
+
+		try {
+			if (chunkSearch == null) {
+				chunkSearch = search.get();
+				this.pending.put(chunk, chunkSearch);
+				this.retryTimes.remove(chunk);
+			}
+
+			while (this.checksLeft > 0) {
+				this.checksLeft--;
+				found = chunkSearch.advance();
+
+				if (found != null) {
+					this.pending.remove(chunk);
+					this.cache.putAndMoveToLast(chunk, found);
+
+					if (this.cache.size() > MAX_CACHED_CHUNKS) {
+						this.cache.removeFirst();
+					}
+
+					return rank(found, origin);
+				}
+			}
+		} catch (RuntimeException e) {
+			// Don't cache the failure, the signs of this chunk will start a new search later.
+			AurorasDeco.error("Failed to locate way sign destinations around {}, retrying in {} ticks.", origin, RETRY_DELAY, e);
+			this.pending.remove(chunk);
+			this.retryTimes.put(chunk, time + RETRY_DELAY);
+		}
+
+		return null;
+	}
+
+	private static List<WaySignFeature.FoundFeatureEntry> rank(List<WaySignFeature.FoundFeatureEntry> found, BlockPos origin) {
+		return found.stream()
+				.map(entry -> entry.relativeTo(origin))
+				.sorted(Comparator.comparingDouble(WaySignFeature.FoundFeatureEntry::distance))
+				.limit(2)
+				.toList();
+	}
+}
@@ -49,12 +49,12 @@ import net.minecraft.util.math.intprovider.IntProvider;
 import net.minecraft.util.random.RandomGenerator;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.World;
-import net.minecraft.world.WorldView;
 import net.minecraft.world.gen.feature.Feature;
 import net.minecraft.world.gen.feature.FeatureConfig;
 import net.minecraft.world.gen.feature.StructureFeature;
 import net.minecraft.world.gen.feature.util.FeatureContext;
 import net.minecraft.world.gen.stateprovider.BlockStateProvider;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -130,8 +130,9 @@ public class WaySignFeature extends Feature<WaySignFeature.Config> {
 	/**
 	 * Generates some directions to interesting landmarks.
 	 * <p>
-	 * This is triggered on the first tick of sign posts with the {@code generate_directions} property set to {@code true}
+	 * This is triggered on the ticks of sign posts with the {@code generate_directions} property set to {@code true}
 	 * (since during world generation we don't have access to all structures).
+	 * The landmarks are located over several ticks, the sign post keeps ticking until they are found.
 	 *
 	 * @param world the world the sign post is in
 	 * @param pos the block position of the sign post
@@ -146,21 +147,19 @@ public class WaySignFeature extends Feature<WaySignFeature.Config> {
 			return;
 		}
 
-		world.setBlockState(pos, state.with(SignPostBlock.GENERATE_DIRECTIONS, false), Block.NOTIFY_LISTENERS);
-
 		/* Search for structures */
 		var serverWorld = (ServerWorld) world;
-		var plausibleTag = serverWorld.getRegistryManager().get(RegistryKeys.STRUCTURE_FEATURE)
-				.getTag(AurorasDecoTags.WAY_SIGN_DESTINATION_STRUCTURES);
-		HolderSet<StructureFeature> tag;
+		var origin = pos.toImmutable();
+		var tag = getDestinationStructures(serverWorld);
+		var places = WaySignDestinationLocator.get(serverWorld).getOrLocate(serverWorld, origin,
+				() -> new DestinationSearch(serverWorld, tag, origin, 100, false)
+		);
 
-		if (plausibleTag.isPresent()) {
-			tag = plausibleTag.get();
-		} else {
-			tag = HolderSet.createDirect();
+		if (places == null) {
+			return; // Still searching.
 		}
 
-		var places = findClosest(serverWorld, tag, pos, 100, false);
+		world.setBlockState(pos, state.with(SignPostBlock.GENERATE_DIRECTIONS, false), Block.NOTIFY_LISTENERS);
 
 		if (places.isEmpty()) {
 			signPost.putSignUp(settings.material(), Text.literal("N"), 180);
@@ -183,112 +182,183 @@ public class WaySignFeature extends Feature<WaySignFeature.Config> {
 		}
 	}
 
-	private static List<FoundFeatureEntry> findClosest(ServerWorld world, HolderSet<StructureFeature> structures, BlockPos origin,
-			int range, boolean skipExistingChunks) {
-		if (!world.getStructureManager().shouldGenerate()) {
-			return Collections.emptyList();
-		}
+	private static HolderSet<StructureFeature> getDestinationStructures(ServerWorld world) {
+		var plausibleTag = world.getRegistryManager().get(RegistryKeys.STRUCTURE_FEATURE)
+				.getTag(AurorasDecoTags.WAY_SIGN_DESTINATION_STRUCTURES);
 
-		var chunkGenerator = (ChunkGeneratorAccessor) world.getChunkManager().getChunkGenerator();
-		ConcentricRingPlacementCalculator concentricRingPlacementCalculator = world.getChunkManager().method_46642();
-		var structurePlacements = new Object2ObjectArrayMap<StructurePlacement, Set<Holder<StructureFeature>>>();
+		if (plausibleTag.isPresent()) {
+			return plausibleTag.get();
+		} else {
+			return HolderSet.createDirect();
+		}
+	}
 
-		for (var holder : structures) {
-			for (StructurePlacement structurePlacement : concentricRingPlacementCalculator.getFeaturePlacements(holder)) {
-				structurePlacements.computeIfAbsent(structurePlacement, sP -> new ObjectArraySet<>()).add(holder);
+	/**
+	 * Represents an incremental search of the closest structures around an origin.
+	 * <p>
+	 * Each step checks at most one potential structure start, which may load its chunk up to the structure starts status,
+	 * so the search can be spread over several ticks on the server thread.
+	 * Concentric rings placements are checked first, then random spread placements are explored
+	 * ring by ring from the closest to the furthest.
+	 */
+	static final class DestinationSearch {
+		private final ServerWorld world;
+		private final BlockPos origin;
+		private final int range;
+		private final boolean skipExistingChunks;
+		private final List<Map.Entry<ConcentricRingsStructurePlacement, Set<Holder<StructureFeature>>>> concentricPlacements
+				= new ArrayList<>();
+		private final List<Map.Entry<RandomSpreadStructurePlacement, Set<Holder<StructureFeature>>>> randomSpreadPlacements
+				= new ArrayList<>();
+		private final List<FoundFeatureEntry> results = new ArrayList<>();
+		/**
+		 * The structures found for the current random spread placement in the current ring.
+		 */
+		private final List<FoundFeatureEntry> ringResults = new ArrayList<>();
+		private final int chunkX;
+		private final int chunkZ;
+		private int concentricIndex = 0;
+		private int placementIndex = 0;
+		private int chunkDist = 0;
+		private int distX = 0;
+		private int distZ = 0;
+		private @Nullable List<FoundFeatureEntry> found;
+
+		DestinationSearch(ServerWorld world, HolderSet<StructureFeature> structures, BlockPos origin,
+				int range, boolean skipExistingChunks) {
+			this.world = world;
+			this.origin = origin;
+			this.range = range;
+			this.skipExistingChunks = skipExistingChunks;
+			this.chunkX = ChunkSectionPos.getSectionCoord(origin.getX());
+			this.chunkZ = ChunkSectionPos.getSectionCoord(origin.getZ());
+
+			if (!world.getStructureManager().shouldGenerate()) {
+				this.found = Collections.emptyList();
+				return;
 			}
-		}
 
-		if (structurePlacements.isEmpty()) {
-			return Collections.emptyList();
-		} else {
-			var results = new ArrayList<FoundFeatureEntry>();
+			ConcentricRingPlacementCalculator concentricRingPlacementCalculator = world.getChunkManager().method_46642();
+			var structurePlacements = new Object2ObjectArrayMap<StructurePlacement, Set<Holder<StructureFeature>>>();
 
-			StructureManager structureManager = world.getStructureManager();
-			var list = new ArrayList<Map.Entry<StructurePlacement, Set<Holder<StructureFeature>>>>(structurePlacements.size());
+			for (var holder : structures) {
+				for (StructurePlacement structurePlacement : concentricRingPlacementCalculator.getFeaturePlacements(holder)) {
+					structurePlacements.computeIfAbsent(structurePlacement, sP -> new ObjectArraySet<>()).add(holder);
+				}
+			}
 
 			for (var entry : structurePlacements.entrySet()) {
-				StructurePlacement structurePlacement2 = entry.getKey();
-				if (structurePlacement2 instanceof ConcentricRingsStructurePlacement concentricRingsStructurePlacement) {
-					Pair<BlockPos, Holder<StructureFeature>> foundStructure = chunkGenerator.invokeFindStructures(
-							entry.getValue(), world, structureManager, origin, skipExistingChunks, concentricRingsStructurePlacement
-					);
-
-					if (foundStructure != null) {
-						compareAndAdd(origin, foundStructure, results);
-					}
-				} else if (structurePlacement2 instanceof RandomSpreadStructurePlacement) {
-					list.add(entry);
+				if (entry.getKey() instanceof ConcentricRingsStructurePlacement placement) {
+					this.concentricPlacements.add(Map.entry(placement, entry.getValue()));
+				} else if (entry.getKey() instanceof RandomSpreadStructurePlacement placement) {
+					this.randomSpreadPlacements.add(Map.entry(placement, entry.getValue()));
 				}
 			}
+		}
 
-			if (!list.isEmpty()) {
-				int chunkX = ChunkSectionPos.getSectionCoord(origin.getX());
-				int chunkZ = ChunkSectionPos.getSectionCoord(origin.getZ());
-
-				// Progressively explore from the closest to furthest.
-				for (int chunkDist = 0; chunkDist <= range; ++chunkDist) {
-					for (Map.Entry<StructurePlacement, Set<Holder<StructureFeature>>> entry2 : list) {
-						RandomSpreadStructurePlacement randomSpreadStructurePlacement = (RandomSpreadStructurePlacement) entry2.getKey();
-						var foundStructures = getNearestGeneratedStructures(
-								entry2.getValue(), world, structureManager, origin, chunkX, chunkZ, chunkDist, skipExistingChunks,
-								world.getSeed(), randomSpreadStructurePlacement, 2
-						);
-
-						if (!foundStructures.isEmpty()) {
-							results.addAll(foundStructures);
-							results.sort(Comparator.comparingDouble(FoundFeatureEntry::distance));
-
-							if (results.size() > 2) return results.subList(0, 2);
-							else if (results.size() == 2) return results;
-						}
-					}
+		/**
+		 * Advances this search by one potential structure start.
+		 * <p>
+		 * This must be called on the server thread.
+		 *
+		 * @return the two closest destinations sorted by distance once the search is done, or {@code null} otherwise
+		 */
+		@Nullable List<FoundFeatureEntry> advance() {
+			if (this.found != null) return this.found;
+
+			var structureManager = this.world.getStructureManager();
+
+			if (this.concentricIndex < this.concentricPlacements.size()) {
+				var entry = this.concentricPlacements.get(this.concentricIndex++);
+				var chunkGenerator = (ChunkGeneratorAccessor) this.world.getChunkManager().getChunkGenerator();
+				Pair<BlockPos, Holder<StructureFeature>> foundStructure = chunkGenerator.invokeFindStructures(
+						entry.getValue(), this.world, structureManager, this.origin, this.skipExistingChunks, entry.getKey()
+				);
+
+				if (foundStructure != null) {
+					compareAndAdd(this.origin, foundStructure, this.results);
 				}
+
+				if (this.concentricIndex == this.concentricPlacements.size() && this.randomSpreadPlacements.isEmpty()) {
+					this.found = List.copyOf(this.results);
+				}
+
+				return this.found;
 			}
 
-			return results;
+			if (this.randomSpreadPlacements.isEmpty() || this.chunkDist > this.range) {
+				this.found = List.copyOf(this.results);
+				return this.found;
+			}
+
+			var entry = this.randomSpreadPlacements.get(this.placementIndex);
+			var placement = entry.getKey();
+			int startChunkX = this.chunkX + placement.getSpacing() * this.distX;
+			int startChunkZ = this.chunkZ + placement.getSpacing() * this.distZ;
+			ChunkPos chunkPos = placement.getPotentialStartChunk(this.world.getSeed(), startChunkX, startChunkZ);
+
+			Pair<BlockPos, Holder<StructureFeature>> foundStructure = ChunkGeneratorAccessor.invokeMethod_41522(entry.getValue(), this.world,
+					structureManager, this.skipExistingChunks, placement, chunkPos);
+			if (foundStructure != null) {
+				BlockPos structurePos = foundStructure.getFirst();
+				double xDist = this.origin.getX() - structurePos.getX();
+				double zDist = this.origin.getZ() - structurePos.getZ();
+				double distance = xDist * xDist + zDist * zDist;
+
+				this.ringResults.add(new FoundFeatureEntry(distance, structurePos, foundStructure.getSecond()));
+			}
+
+			if (this.ringResults.size() >= 2 || !this.nextRingCell()) {
+				this.finishPlacementRing();
+			}
+
+			return this.found;
 		}
-	}
 
-	private static List<FoundFeatureEntry> getNearestGeneratedStructures(
-			Set<Holder<StructureFeature>> structures, WorldView world, StructureManager structureManager, BlockPos origin,
-			int chunkX, int chunkZ, int chunkDist, boolean skipExistingChunks, long seed, RandomSpreadStructurePlacement placement,
-			int limit
-	) {
-		var result = new ArrayList<FoundFeatureEntry>();
-		int spacing = placement.getSpacing();
-
-		for (int distX = -chunkDist; distX <= chunkDist; ++distX) {
-			boolean edgeX = distX == -chunkDist || distX == chunkDist;
-
-			for (int distZ = -chunkDist; distZ <= chunkDist; ++distZ) {
-				boolean edgeZ = distZ == -chunkDist || distZ == chunkDist;
-
-				if (edgeX || edgeZ) {
-					int startChunkX = chunkX + spacing * distX;
-					int startChunkZ = chunkZ + spacing * distZ;
-					ChunkPos chunkPos = placement.getPotentialStartChunk(seed, startChunkX, startChunkZ);
-
-					Pair<BlockPos, Holder<StructureFeature>> found = ChunkGeneratorAccessor.invokeMethod_41522(structures, world, structureManager,
-							skipExistingChunks, placement, chunkPos);
-					if (found != null) {
-						BlockPos structurePos = found.getFirst();
-						double xDist = origin.getX() - structurePos.getX();
-						double zDist = origin.getZ() - structurePos.getZ();
-						double distance = xDist * xDist + zDist * zDist;
-
-						var feature = new FoundFeatureEntry(distance, structurePos, found.getSecond());
-						result.add(feature);
-
-						if (result.size() >= limit) {
-							return result;
-						}
-					}
-				}
+		/**
+		 * Moves to the next cell on the edge of the current ring.
+		 *
+		 * @return {@code true} if there's a next cell, or {@code false} if the ring has been fully explored
+		 */
+		private boolean nextRingCell() {
+			boolean edgeX = this.distX == -this.chunkDist || this.distX == this.chunkDist;
+
+			if (edgeX) {
+				this.distZ++;
+			} else {
+				// Only the edges of the ring are explored, skip the inside.
+				this.distZ = this.distZ == -this.chunkDist ? this.chunkDist : this.chunkDist + 1;
+			}
+
+			if (this.distZ > this.chunkDist) {
+				this.distZ = -this.chunkDist;
+				this.distX++;
 			}
+
+			return this.distX <= this.chunkDist;
 		}
 
-		return result;
+		private void finishPlacementRing() {
+			if (!this.ringResults.isEmpty()) {
+				this.results.addAll(this.ringResults);
+				this.ringResults.clear();
+				this.results.sort(Comparator.comparingDouble(FoundFeatureEntry::distance));
+
+				if (this.results.size() >= 2) {
+					this.found = List.copyOf(this.results.subList(0, 2));
+					return;
+				}
+			}
+
+			this.placementIndex++;
+			if (this.placementIndex >= this.randomSpreadPlacements.size()) {
+				this.placementIndex = 0;
+				this.chunkDist++;
+			}
+
+			this.distX = -this.chunkDist;
+			this.distZ = -this.chunkDist;
+		}
 	}
 
 	private static void compareAndAdd(BlockPos origin, Pair<BlockPos, Holder<StructureFeature>> foundStructure, List<FoundFeatureEntry> results) {
@@ -318,7 +388,18 @@ public class WaySignFeature extends Feature<WaySignFeature.Config> {
 		}
 	}
 
-	private record FoundFeatureEntry(double distance, BlockPos pos, Holder<StructureFeature> feature) {
+	record FoundFeatureEntry(double distance, BlockPos pos, Holder<StructureFeature> feature) {
+		/**
+		 * {@return this entry with its distance computed from the given origin}
+		 *
+		 * @param origin the origin
+		 */
+		public FoundFeatureEntry relativeTo(BlockPos origin) {
+			double xDist = origin.getX() - this.pos.getX();
+			double zDist = origin.getZ() - this.pos.getZ();
+			return new FoundFeatureEntry(xDist * xDist + zDist * zDist, this.pos, this.feature);
+		}
+
 		public void makeSignTarget(SignPostBlockEntity.Sign sign, Direction facing, RandomGenerator random) {
 			// I am honestly not sure *why* I need to invert the logic on the X axis, but it works so whatever...
 			if (facing.getAxis() == Direction.Axis.X) facing = facing.getOpposite();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the scanline flood fill against the original recursive fill.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class BlackboardFloodFillTest {
+	@Test
+	void fillsEmptyBoard() {
+		var pixels = new short[256];
+
+		assertEquals(256, BlackboardFloodFill.fill(pixels, 7, 7, (short) 3));
+
+		var expected = new short[256];
+		Arrays.fill(expected, (short) 3);
+		assertArrayEquals(expected, pixels);
+	}
+
+	@Test
+	void fillWithSameColorChangesNothing() {
+		var pixels = new short[256];
+		pixels[42] = 5;
+
+		assertEquals(0, BlackboardFloodFill.fill(pixels, 10, 2, (short) 5));
+		assertEquals(5, pixels[42]);
+	}
+
+	@Test
+	void stopsAtBorders() {
+		var pixels = new short[256];
+		// Vertical line splitting the board in two.
+		for (int y = 0; y < 16; y++) pixels[y * 16 + 8] = 1;
+
+		assertEquals(128, BlackboardFloodFill.fill(pixels, 0, 0, (short) 2));
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				short expected = x < 8 ? 2 : x == 8 ? (short) 1 : 0;
+				assertEquals(expected, pixels[y * 16 + x], "pixel (" + x + ", " + y + ")");
+			}
+		}
+	}
+
+	@Test
+	void matchesRecursiveFill() {
+		var random = new Random(0x5EED);
+
+		for (int i = 0; i < 10_000; i++) {
+			// Few colors so that the boards have large and oddly-shaped areas.
+			int colors = 2 + random.nextInt(3);
+			var pixels = new short[256];
+			for (int p = 0; p < pixels.length; p++) pixels[p] = (short) random.nextInt(colors);
+
+			int x = random.nextInt(16);
+			int y = random.nextInt(16);
+			short replacement = (short) random.nextInt(colors + 1);
+
+			var expected = pixels.clone();
+			floodRecursive(expected, x, y, expected[y * 16 + x], replacement);
+			int expectedChanged = countChanged(pixels, expected);
+
+			int changed = BlackboardFloodFill.fill(pixels, x, y, replacement);
+
+			assertArrayEquals(expected, pixels, "board " + i + " at (" + x + ", " + y + ")");
+			assertEquals(expectedChanged, changed, "changed pixels of board " + i);
+		}
+	}
+
+	private static int countChanged(short[] before, short[] after) {
+		int changed = 0;
+		for (int i = 0; i < before.length; i++) {
+			if (before[i] != after[i]) changed++;
+		}
+		return changed;
+	}
+
+	/**
+	 * The original recursive fill, used as the reference implementation.
+	 */
+	private static void floodRecursive(short[] pixels, int x, int y, int target, int replacement) {
+		if (target == replacement) return;
+
+		short pixel = pixels[y * 16 + x];
+		if (pixel == target) {
+			pixels[y * 16 + x] = (short) replacement;
+			floodRecursive(pixels, (x <= 0 ? x : x - 1), y, target, replacement);
+			floodRecursive(pixels, (x >= 15 ? x : x + 1), y, target, replacement);
+			floodRecursive(pixels, x, (y <= 0 ? y : y - 1), target, replacement);
+			floodRecursive(pixels, x, (y >= 15 ? y : y + 1), target, replacement);
+		}
+	}
+}
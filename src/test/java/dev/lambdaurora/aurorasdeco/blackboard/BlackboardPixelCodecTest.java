@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Checks the blackboard pixel codec against checked-in encoded boards of every format version.
+ * <p>
+ * The expected boards ({@code pixels.bin} and {@code raw.bin}) are stored as 256 big-endian shorts.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class BlackboardPixelCodecTest {
+	@Test
+	void decodesVersion1() {
+		assertArrayEquals(readPixels("pixels.bin"), decode("pixels_v1.bin", 1));
+	}
+
+	@Test
+	void decodesVersion2() {
+		assertArrayEquals(readPixels("pixels.bin"), decode("pixels_v2.bin", 2));
+	}
+
+	@Test
+	void decodesVersion3() {
+		assertArrayEquals(readPixels("pixels.bin"), decode("pixels_v3.bin", 3));
+		assertArrayEquals(readPixels("raw.bin"), decode("raw_v3.bin", 3));
+	}
+
+	@Test
+	void encodesVersion3() {
+		assertEquals(3, BlackboardPixelCodec.VERSION);
+		assertArrayEquals(read("pixels_v3.bin"), BlackboardPixelCodec.encode(readPixels("pixels.bin")));
+		assertArrayEquals(read("raw_v3.bin"), BlackboardPixelCodec.encode(readPixels("raw.bin")));
+	}
+
+	@Test
+	void migratesLegacyBoards() {
+		for (int version = 1; version <= 2; version++) {
+			var pixels = decode("pixels_v" + version + ".bin", version);
+			assertArrayEquals(read("pixels_v3.bin"), BlackboardPixelCodec.encode(pixels), "version " + version);
+		}
+	}
+
+	@Test
+	void roundTrips() {
+		var random = new Random(0x5EED);
+
+		for (int i = 0; i < 1_000; i++) {
+			// Mix a few colors with some noise to cover both the palette and raw encodings.
+			int colors = 1 + random.nextInt(16);
+			var palette = new short[colors];
+			for (int c = 0; c < colors; c++) palette[c] = (short) random.nextInt(1 << 16);
+
+			var pixels = new short[256];
+			int noise = random.nextInt(257);
+			for (int p = 0; p < pixels.length; p++) {
+				pixels[p] = random.nextInt(256) < noise ? palette[random.nextInt(colors)] : palette[0];
+			}
+
+			var encoded = BlackboardPixelCodec.encode(pixels);
+			assertEquals(encoded.length, BlackboardPixelCodec.getEncodedSize(pixels), "encoded size of board " + i);
+
+			var decoded = new short[256];
+			BlackboardPixelCodec.decode(encoded, BlackboardPixelCodec.VERSION, decoded);
+			assertArrayEquals(pixels, decoded, "board " + i);
+		}
+	}
+
+	private static short[] decode(String name, int version) {
+		var pixels = new short[256];
+		BlackboardPixelCodec.decode(read(name), version, pixels);
+		return pixels;
+	}
+
+	private static short[] readPixels(String name) {
+		var data = read(name);
+		assertEquals(512, data.length, name);
+
+		var pixels = new short[256];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = (short) (data[i * 2] << 8 | data[i * 2 + 1] & 0xff);
+		}
+		return pixels;
+	}
+
+	private static byte[] read(String name) {
+		try (var stream = BlackboardPixelCodecTest.class.getResourceAsStream(name)) {
+			assertNotNull(stream, "missing fixture " + name);
+			return stream.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the render rule selection keys keep selecting the same models.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class RenderRuleTest {
+	private static final String[] NAMES = {"", "Book", "Enchanted Book", "Livre enchanté", "本", "Shelf 📚"};
+
+	@Test
+	void selectionKeyMatchesObjectsHash() {
+		var random = new Random(0x5EED);
+
+		for (int i = 0; i < 10_000; i++) {
+			int count = random.nextInt(65);
+			var name = NAMES[random.nextInt(NAMES.length)];
+			long seed = random.nextLong();
+
+			assertEquals(Objects.hash(count, name, seed), RenderRule.getSelectionKey(count, name, seed),
+					"count " + count + ", name \"" + name + "\", seed " + seed);
+		}
+
+		assertEquals(Objects.hash(1, "Book", 0L), RenderRule.getSelectionKey(1, "Book", 0L));
+		assertEquals(Objects.hash(64, "Book", Long.MIN_VALUE), RenderRule.getSelectionKey(64, "Book", Long.MIN_VALUE));
+		assertEquals(Objects.hash(1, "Book", -1L), RenderRule.getSelectionKey(1, "Book", -1L));
+	}
+
+	@Test
+	void selectionKeyIsStable() {
+		for (var name : NAMES) {
+			int key = RenderRule.getSelectionKey(3, name, 42L);
+
+			for (int i = 0; i < 16; i++) {
+				assertEquals(key, RenderRule.getSelectionKey(3, new String(name), 42L), name);
+			}
+		}
+	}
+}